@@ -0,0 +1,76 @@
+package de.vkoop;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading a source file with {@link JsonTranslator#parseAsMap}, turning it into
+ * the {@link JsonTemplate} that every target language is rendered from, and collecting the
+ * string values of a previous output for incremental runs.
+ * <p>
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonTranslatorBenchmark {
+
+    /**
+     * Shape of the tree as depth x width, see {@link JsonTrees#generate(String, double)}
+     */
+    @Param({"2x100", "4x10", "8x3"})
+    public String shape;
+
+    /**
+     * Share of the leaves that repeat an earlier text
+     */
+    @Param({"0", "0.5", "0.9"})
+    public double duplicateRatio;
+
+    private final JsonTranslator jsonTranslator = new JsonTranslator(null);
+
+    private File sourceFile;
+
+    private Map<String, Object> tree;
+
+    @Setup
+    public void setUp() throws IOException {
+        tree = JsonTrees.generate(shape, duplicateRatio);
+        sourceFile = Files.createTempFile("benchmark", ".json").toFile();
+        new ObjectMapper().writeValue(sourceFile, tree);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(sourceFile.toPath());
+    }
+
+    @Benchmark
+    public Map<String, Object> parseAsMap() throws IOException {
+        return jsonTranslator.parseAsMap(sourceFile.getPath());
+    }
+
+    @Benchmark
+    public JsonTemplate buildTemplate() {
+        return JsonTemplate.of(tree);
+    }
+
+    @Benchmark
+    public Map<String, String> stringValues() {
+        return JsonTemplate.stringValues(tree);
+    }
+}
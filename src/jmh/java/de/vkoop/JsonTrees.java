@@ -0,0 +1,51 @@
+package de.vkoop;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates translation documents of a given shape for the benchmarks. The trees are
+ * deterministic, so every run and every benchmark measures the same input.
+ */
+public final class JsonTrees {
+
+    private JsonTrees() {
+    }
+
+    /**
+     * @param shape          Depth and width of the tree as {@code depth x width}, e.g. {@code 4x10}
+     * @param duplicateRatio Share of the leaves that repeat the text of an earlier leaf
+     */
+    public static Map<String, Object> generate(String shape, double duplicateRatio) {
+        final String[] dimensions = shape.split("x");
+        return generate(Integer.parseInt(dimensions[0]), Integer.parseInt(dimensions[1]), duplicateRatio);
+    }
+
+    /**
+     * Builds a tree in which every map below {@code depth} levels holds {@code width} string leaves
+     */
+    public static Map<String, Object> generate(int depth, int width, double duplicateRatio) {
+        return generate(depth, width, duplicateRatio, "", new Random(42), new ArrayList<>());
+    }
+
+    private static Map<String, Object> generate(int depth, int width, double duplicateRatio, String prefix,
+            Random random, List<String> texts) {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < width; i++) {
+            final String key = prefix + "key" + i;
+            if (depth > 1) {
+                map.put(key, generate(depth - 1, width, duplicateRatio, key + ".", random, texts));
+            } else if (!texts.isEmpty() && random.nextDouble() < duplicateRatio) {
+                map.put(key, texts.get(random.nextInt(texts.size())));
+            } else {
+                final String text = "Der Text von " + key + " mit ein paar weiteren Wörtern";
+                texts.add(text);
+                map.put(key, text);
+            }
+        }
+        return map;
+    }
+}
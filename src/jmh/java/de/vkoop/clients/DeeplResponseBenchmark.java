@@ -0,0 +1,56 @@
+package de.vkoop.clients;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.vkoop.data.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how {@link DeeplTranslateClient} reads the body of a DeepL response, from a single
+ * translation up to a full batch request.
+ * <p>
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DeeplResponseBenchmark {
+
+    /**
+     * Translations in the response, {@link DeeplTranslateClient#MAX_TEXTS_PER_REQUEST} is a full batch
+     */
+    @Param({"1", "10", "50"})
+    public int translations;
+
+    private final DeeplTranslateClient client = new DeeplTranslateClient("http://localhost/v2/translate");
+
+    private String responseBody;
+
+    @Setup
+    public void setUp() throws IOException {
+        final List<Map<String, String>> entries = new ArrayList<>();
+        for (int i = 0; i < translations; i++) {
+            entries.add(Map.of(
+                    "detected_source_language", "DE",
+                    "text", "The text of key" + i + " with a few more words"));
+        }
+        responseBody = new ObjectMapper().writeValueAsString(Map.of("translations", entries));
+    }
+
+    @Benchmark
+    public Response parseResponse() throws IOException {
+        return client.parseResponse(responseBody);
+    }
+}
@@ -0,0 +1,50 @@
+package de.vkoop.commands;
+
+import de.vkoop.JsonTrees;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the serialization of a translated document by {@link JsonCommand}, in source order
+ * and with {@code --sort-keys}, which orders the entries of every map by key.
+ * <p>
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonOutputBenchmark {
+
+    /**
+     * Shape of the tree as depth x width, see {@link JsonTrees#generate(String, double)}
+     */
+    @Param({"2x100", "4x10", "8x3"})
+    public String shape;
+
+    private Map<String, Object> tree;
+
+    @Setup
+    public void setUp() {
+        tree = JsonTrees.generate(shape, 0);
+    }
+
+    @Benchmark
+    public byte[] sourceOrder() throws IOException {
+        return JsonCommand.OUTPUT_WRITER.writeValueAsBytes(tree);
+    }
+
+    @Benchmark
+    public byte[] sortedKeys() throws IOException {
+        return JsonCommand.SORTED_OUTPUT_WRITER.writeValueAsBytes(tree);
+    }
+}
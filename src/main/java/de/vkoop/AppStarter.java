@@ -1,26 +1,42 @@
 package de.vkoop;
 
+import de.vkoop.commands.ServeCommand;
 import de.vkoop.commands.TranslateCommand;
+import de.vkoop.daemon.DaemonClient;
 import de.vkoop.exceptions.ConfigurationException;
+import de.vkoop.exceptions.QuotaExceededException;
 import de.vkoop.exceptions.TranslationException;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.ExitCodeGenerator;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.stereotype.Component;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
 
+import java.util.Optional;
+
 @SpringBootApplication
 public class AppStarter {
 
+    private static final int STARTUP_STEP_CAPACITY = 4096;
+
     public static void main(String[] args) {
-        System.exit(SpringApplication.exit(SpringApplication.run(AppStarter.class, args)));
+        // A running daemon answers without starting Spring at all
+        Optional<Integer> forwardedExitCode = DaemonClient.forward(args, System.out, System.err);
+        if (forwardedExitCode.isPresent()) {
+            System.exit(forwardedExitCode.get());
+        }
+        SpringApplication application = new SpringApplication(AppStarter.class);
+        // Records the startup steps for the optional StartupTimingReport
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        System.exit(SpringApplication.exit(application.run(args)));
     }
 
     @Component
     @Command(
-        subcommands = { TranslateCommand.class, ConfigGeneratorTask.class },
+        subcommands = { TranslateCommand.class, ConfigGeneratorTask.class, ServeCommand.class },
         name = "deeplclient",
         description = "DeepL translation client",
         mixinStandardHelpOptions = true
@@ -39,19 +55,25 @@ public class AppStarter {
         
         @Override
         public void run(String... args) {
-            CommandLine commandLine = new CommandLine(this, factory);
+            CommandLine commandLine = configure(new CommandLine(this, factory));
+            exitCode = commandLine.execute(args);
+        }
 
+        /**
+         * Applies the CLI settings to a command line, also used for the command lines the daemon runs
+         */
+        public static CommandLine configure(CommandLine commandLine) {
             // Configure exit codes for our custom exceptions
-            commandLine.setExitCodeExceptionMapper(exception -> {
+            return commandLine.setExitCodeExceptionMapper(exception -> {
                 if (exception instanceof ConfigurationException) {
                     return 2;
+                } else if (exception instanceof QuotaExceededException) {
+                    return 4;
                 } else if (exception instanceof TranslationException) {
                     return 3;
                 }
                 return 1; // Default error code
             });
-
-            exitCode = commandLine.execute(args);
         }
         
         @Override
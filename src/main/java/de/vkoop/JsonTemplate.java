@@ -0,0 +1,168 @@
+package de.vkoop;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Immutable, pre-analysed form of a source JSON document, shared by the
+ * translations into all target languages.
+ * <p>
+ * The document is split into the distinct texts that need translating and a
+ * skeleton of the tree whose string leaves point into that table. Rendering a
+ * language only copies the skeleton and fills in the translations, so the
+ * source is parsed and traversed once regardless of the number of languages.
+ */
+public final class JsonTemplate {
+
+    private final Map<String, Object> skeleton;
+    private final List<String> texts;
+    private final Map<String, String> leaves;
+
+    private JsonTemplate(Map<String, Object> skeleton, List<String> texts, Map<String, String> leaves) {
+        this.skeleton = skeleton;
+        this.texts = texts;
+        this.leaves = leaves;
+    }
+
+    public static JsonTemplate of(Map<String, Object> source) {
+        final Map<String, Integer> textIndexes = new HashMap<>();
+        final List<String> texts = new ArrayList<>();
+        final Map<String, String> leaves = new LinkedHashMap<>();
+        final Map<String, Object> skeleton = buildSkeleton(source, new StringBuilder(), textIndexes, texts, leaves);
+        return new JsonTemplate(skeleton, Collections.unmodifiableList(texts), Collections.unmodifiableMap(leaves));
+    }
+
+    /**
+     * @param pointer The JSON pointer of {@code source}, shared by the whole traversal and extended per entry, so
+     *                pointer strings are only created for the leaves that keep them
+     */
+    private static Map<String, Object> buildSkeleton(
+            Map<String, Object> source,
+            StringBuilder pointer,
+            Map<String, Integer> textIndexes,
+            List<String> texts,
+            Map<String, String> leaves
+    ) {
+        final Map<String, Object> skeleton = MapUtils.newLinkedHashMap(source.size());
+        final int length = pointer.length();
+        for (Map.Entry<String, Object> entry : source.entrySet()) {
+            final Object value = entry.getValue();
+            appendKey(pointer, entry.getKey());
+            if (value instanceof String text) {
+                // Blank values are kept as they are, the APIs reject them
+                if (text.isBlank()) {
+                    skeleton.put(entry.getKey(), text);
+                } else {
+                    final int index = textIndexes.computeIfAbsent(text, key -> {
+                        texts.add(key);
+                        return texts.size() - 1;
+                    });
+                    final String childPointer = pointer.toString();
+                    skeleton.put(entry.getKey(), new Leaf(index, childPointer));
+                    leaves.put(childPointer, text);
+                }
+            } else if (value instanceof Map) {
+                skeleton.put(entry.getKey(),
+                        buildSkeleton((Map<String, Object>) value, pointer, textIndexes, texts, leaves));
+            }
+            pointer.setLength(length);
+        }
+        return Collections.unmodifiableMap(skeleton);
+    }
+
+    /**
+     * Collects the string values of a parsed document by their JSON pointer, e.g. {@code /dialog/save}
+     */
+    public static Map<String, String> stringValues(Map<String, Object> document) {
+        final Map<String, String> values = new HashMap<>();
+        collectStringValues(document, new StringBuilder(), values);
+        return values;
+    }
+
+    private static void collectStringValues(Map<String, Object> document, StringBuilder pointer, Map<String, String> values) {
+        final int length = pointer.length();
+        for (Map.Entry<String, Object> entry : document.entrySet()) {
+            appendKey(pointer, entry.getKey());
+            if (entry.getValue() instanceof String text) {
+                values.put(pointer.toString(), text);
+            } else if (entry.getValue() instanceof Map) {
+                collectStringValues((Map<String, Object>) entry.getValue(), pointer, values);
+            }
+            pointer.setLength(length);
+        }
+    }
+
+    private static void appendKey(StringBuilder pointer, String key) {
+        pointer.append('/');
+        // RFC 6901 escaping
+        for (int i = 0; i < key.length(); i++) {
+            final char c = key.charAt(i);
+            if (c == '~') {
+                pointer.append("~0");
+            } else if (c == '/') {
+                pointer.append("~1");
+            } else {
+                pointer.append(c);
+            }
+        }
+    }
+
+    /**
+     * The distinct non-blank texts of the document, in document order
+     */
+    public List<String> getTexts() {
+        return texts;
+    }
+
+    /**
+     * The texts to translate keyed by their JSON pointer, in document order
+     */
+    public Map<String, String> getLeaves() {
+        return leaves;
+    }
+
+    /**
+     * Builds the translated document
+     *
+     * @param translations The translations in the order of {@link #getTexts()}, null for a failed translation
+     */
+    public Map<String, Object> render(List<String> translations) {
+        if (translations.size() != texts.size()) {
+            throw new IllegalArgumentException("Expected " + texts.size() + " translations, got " + translations.size());
+        }
+        return render(skeleton, leaf -> translations.get(leaf.index()));
+    }
+
+    /**
+     * Builds the translated document from translations keyed by JSON pointer
+     *
+     * @param translations The translation of each leaf of {@link #getLeaves()}, a missing or null value stands for a failed translation
+     */
+    public Map<String, Object> render(Map<String, String> translations) {
+        return render(skeleton, leaf -> translations.get(leaf.pointer()));
+    }
+
+    private static Map<String, Object> render(Map<String, Object> skeleton, Function<Leaf, String> translation) {
+        final Map<String, Object> result = MapUtils.newLinkedHashMap(skeleton.size());
+        for (Map.Entry<String, Object> entry : skeleton.entrySet()) {
+            final Object value = entry.getValue();
+            if (value instanceof Leaf leaf) {
+                result.put(entry.getKey(), Objects.requireNonNullElse(translation.apply(leaf), ""));
+            } else if (value instanceof Map) {
+                result.put(entry.getKey(), render((Map<String, Object>) value, translation));
+            } else {
+                result.put(entry.getKey(), value);
+            }
+        }
+        return result;
+    }
+
+    private record Leaf(int index, String pointer) {
+    }
+}
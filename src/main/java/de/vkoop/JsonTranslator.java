@@ -1,26 +1,86 @@
 package de.vkoop;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import de.vkoop.exceptions.TranslationException;
 import de.vkoop.interfaces.TranslateClient;
+import de.vkoop.jfr.PipelineStageEvent;
+import de.vkoop.report.TranslationStatistics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
 
 @Component
 public class JsonTranslator {
+    private static final Logger logger = LoggerFactory.getLogger(JsonTranslator.class);
+
+    static final int DEFAULT_BATCH_SIZE = 50;
+
+    public static final String LEAVES = "transcli.json.leaves";
+    public static final String CHARACTERS = "transcli.json.characters";
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     private final TranslateClient translateClient;
 
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    // The global registry has no backing registry unless metrics are enabled, so counting is a no-op
+    private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+    private TranslationStatistics statistics = new TranslationStatistics();
+
     public JsonTranslator(TranslateClient translateClient) {
         this.translateClient = translateClient;
     }
 
+    @Value("${translate.batch-size:" + DEFAULT_BATCH_SIZE + "}")
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.batchSize = batchSize;
+    }
+
+    @Autowired(required = false)
+    public void setMeterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Autowired(required = false)
+    public void setStatistics(TranslationStatistics statistics) {
+        this.statistics = statistics;
+    }
+
     public Map<String, Object> parseAsMap(String filePath) throws IOException {
-        return objectMapper.readValue(new File(filePath), Map.class);
+        final File file = new File(filePath);
+        final PipelineStageEvent event = PipelineStageEvent.start(PipelineStageEvent.PARSE, filePath, "");
+        final Map<String, Object> document = objectMapper.readValue(file, Map.class);
+        event.finish(0, file.length());
+        return document;
+    }
+
+    /**
+     * Parses a source file into a template that can be translated into any number of languages
+     */
+    public JsonTemplate parse(String filePath) throws IOException {
+        return JsonTemplate.of(parseAsMap(filePath));
     }
 
     public Map<String, Object> translateJsonFile(
@@ -28,22 +88,152 @@ public class JsonTranslator {
         String sourceLang,
         String targetLang
     ) throws IOException {
-        final Map<String, Object> stringObjectMap = parseAsMap(filename);
-
-        return MapUtils.map(stringObjectMap, value -> {
-            var response = translateClient.translate(
-                value,
-                sourceLang,
-                targetLang
-            );
-
-            return (
-                    response != null &&
-                    response.translations != null &&
-                    !response.translations.isEmpty()
-                )
-                ? response.translations.get(0).text
-                : "";
+        return translate(parse(filename), sourceLang, targetLang);
+    }
+
+    public Map<String, Object> translate(JsonTemplate template, String sourceLang, String targetLang) {
+        countLeaves(targetLang, template.getLeaves().size());
+        // The template holds each distinct text once, so repeated strings are only translated once
+        final List<String> translations = translateInBatches(template.getTexts(), sourceLang, targetLang);
+        return render(template, targetLang, () -> template.render(translations));
+    }
+
+    /**
+     * Translates several documents into one language. Every distinct text of all documents is
+     * translated once, so strings shared between files cost a single translation.
+     *
+     * @return The translated documents in the order of {@code templates}
+     */
+    public List<Map<String, Object>> translateAll(List<JsonTemplate> templates, String sourceLang, String targetLang) {
+        final Set<String> distinctTexts = new LinkedHashSet<>();
+        int textCount = 0;
+        for (JsonTemplate template : templates) {
+            distinctTexts.addAll(template.getTexts());
+            textCount += template.getTexts().size();
+            countLeaves(targetLang, template.getLeaves().size());
+        }
+        logger.info("{}: translating {} distinct texts of {} files ({} texts in total)",
+                targetLang, distinctTexts.size(), templates.size(), textCount);
+
+        final List<String> texts = new ArrayList<>(distinctTexts);
+        final List<String> translatedTexts = translateInBatches(texts, sourceLang, targetLang);
+        final Map<String, String> translations = new HashMap<>(texts.size() * 4 / 3 + 1);
+        for (int i = 0; i < texts.size(); i++) {
+            translations.put(texts.get(i), translatedTexts.get(i));
+        }
+
+        final List<Map<String, Object>> outputs = new ArrayList<>(templates.size());
+        for (JsonTemplate template : templates) {
+            outputs.add(render(template, targetLang,
+                    () -> template.render(template.getTexts().stream().map(translations::get).toList())));
+        }
+        return outputs;
+    }
+
+    /**
+     * Translates only the leaves that are new or whose source text changed since the previous output was written,
+     * and copies all other leaves from the previous output. Leaves missing from the template are dropped.
+     *
+     * @param sourceHashes   The hashes of the template leaves, see {@link TranslationLockFile#hashes(JsonTemplate)}
+     * @param previousHashes The source hashes the previous output was translated from
+     * @param previousOutput The previous output of this language, empty if there is none
+     */
+    public IncrementalResult translateIncrementally(
+        JsonTemplate template,
+        Map<String, String> sourceHashes,
+        Map<String, String> previousHashes,
+        Map<String, Object> previousOutput,
+        String sourceLang,
+        String targetLang
+    ) {
+        countLeaves(targetLang, template.getLeaves().size());
+        final Map<String, String> previousValues = JsonTemplate.stringValues(previousOutput);
+        final Map<String, String> values = new HashMap<>(sourceHashes.size() * 4 / 3 + 1);
+        final Set<String> changedTexts = new LinkedHashSet<>();
+        template.getLeaves().forEach((pointer, text) -> {
+            final String previousValue = previousValues.get(pointer);
+            if (previousValue != null && sourceHashes.get(pointer).equals(previousHashes.get(pointer))) {
+                values.put(pointer, previousValue);
+            } else {
+                changedTexts.add(text);
+            }
         });
+        logger.info("{}: {} of {} keys unchanged, translating {} texts",
+                targetLang, values.size(), sourceHashes.size(), changedTexts.size());
+
+        final List<String> texts = new ArrayList<>(changedTexts);
+        final List<String> translatedTexts = translateInBatches(texts, sourceLang, targetLang);
+        final Map<String, String> translations = new HashMap<>(texts.size() * 4 / 3 + 1);
+        for (int i = 0; i < texts.size(); i++) {
+            translations.put(texts.get(i), translatedTexts.get(i));
+        }
+
+        final Map<String, String> hashes = new HashMap<>(sourceHashes.size() * 4 / 3 + 1);
+        template.getLeaves().forEach((pointer, text) -> {
+            if (!values.containsKey(pointer)) {
+                values.put(pointer, translations.get(text));
+            }
+            // Failed translations are not locked, so the next run retries them
+            if (values.get(pointer) != null) {
+                hashes.put(pointer, sourceHashes.get(pointer));
+            }
+        });
+        return new IncrementalResult(render(template, targetLang, () -> template.render(values)), hashes);
+    }
+
+    /**
+     * @param output The translated document
+     * @param hashes The source hashes of the leaves translated successfully, for the lockfile
+     */
+    public record IncrementalResult(Map<String, Object> output, Map<String, String> hashes) {
+    }
+
+    private static Map<String, Object> render(JsonTemplate template, String targetLang, Supplier<Map<String, Object>> renderer) {
+        final PipelineStageEvent event = PipelineStageEvent.start(PipelineStageEvent.TRANSFORM, "", targetLang);
+        final Map<String, Object> document = renderer.get();
+        event.finish(template.getLeaves().size(), 0);
+        return document;
+    }
+
+    private void countLeaves(String targetLang, int leaves) {
+        meterRegistry.counter(LEAVES, "target_language", targetLang).increment(leaves);
+        statistics.leaves(targetLang, leaves);
+    }
+
+    private List<String> translateInBatches(List<String> values, String sourceLang, String targetLang) {
+        long characters = 0;
+        for (String value : values) {
+            characters += value.length();
+        }
+        // Before caching, compare with transcli.translate.characters for what reached the backend
+        meterRegistry.counter(CHARACTERS, "target_language", targetLang).increment(characters);
+        statistics.texts(targetLang, values.size());
+
+        // All batches are dispatched at once; the client limits how many are in flight
+        final List<CompletableFuture<List<String>>> batches = new ArrayList<>();
+        for (int start = 0; start < values.size(); start += batchSize) {
+            final List<String> batch = values.subList(start, Math.min(start + batchSize, values.size()));
+            batches.add(translateClient.translateBatchAsync(batch, sourceLang, targetLang));
+        }
+
+        final List<String> translations = new ArrayList<>(values.size());
+        try {
+            // Joined in dispatch order, so the translations line up with the values
+            for (CompletableFuture<List<String>> batch : batches) {
+                translations.addAll(batch.get());
+            }
+        } catch (ExecutionException e) {
+            batches.forEach(batch -> batch.cancel(false));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CompletionException(e.getCause());
+        } catch (InterruptedException e) {
+            // The language job was cancelled, e.g. because another language exhausted the quota
+            batches.forEach(batch -> batch.cancel(false));
+            Thread.currentThread().interrupt();
+            throw new TranslationException("Interrupted while waiting for translations", e);
+        }
+        return translations;
     }
 }
@@ -0,0 +1,202 @@
+package de.vkoop;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import de.vkoop.interfaces.TranslateClient;
+import de.vkoop.report.TranslationStatistics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Translates a JSON file token by token, for documents too large to hold as a tree.
+ * <p>
+ * String values are collected in a look-ahead window of at most one batch; once the
+ * window is full it is translated and every token buffered so far is written out.
+ * The window is also written once it holds {@value #MAX_WINDOW_TOKENS} tokens, e.g. for
+ * documents that repeat few texts. Memory use therefore depends on the batch size, not
+ * on the file size. Like {@link JsonTranslator}, only objects and string values are
+ * carried over, but keys keep their source order.
+ */
+@Component
+public class StreamingJsonTranslator {
+
+    // Field names, structure, blank and repeated values buffered in one window
+    static final int MAX_WINDOW_TOKENS = 10_000;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    private final TranslateClient translateClient;
+
+    private int batchSize = JsonTranslator.DEFAULT_BATCH_SIZE;
+
+    private int maxWindowTokens = MAX_WINDOW_TOKENS;
+
+    // The global registry has no backing registry unless metrics are enabled, so counting is a no-op
+    private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+    private TranslationStatistics statistics = new TranslationStatistics();
+
+    public StreamingJsonTranslator(TranslateClient translateClient) {
+        this.translateClient = translateClient;
+    }
+
+    @Value("${translate.batch-size:" + JsonTranslator.DEFAULT_BATCH_SIZE + "}")
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.batchSize = batchSize;
+    }
+
+    void setMaxWindowTokens(int maxWindowTokens) {
+        this.maxWindowTokens = maxWindowTokens;
+    }
+
+    @Autowired(required = false)
+    public void setMeterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Autowired(required = false)
+    public void setStatistics(TranslationStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * Translates {@code source} into {@code target}. The target is written to a temporary
+     * file first and only replaced once the whole document is translated.
+     */
+    public void translate(File source, File target, String sourceLang, String targetLang) throws IOException {
+        final Path targetPath = target.toPath().toAbsolutePath();
+        final Path temporary = Files.createTempFile(targetPath.getParent(), target.getName(), ".tmp");
+        try {
+            try (JsonParser parser = jsonFactory.createParser(source);
+                 JsonGenerator generator = jsonFactory.createGenerator(temporary.toFile(), JsonEncoding.UTF8)) {
+                generator.useDefaultPrettyPrinter();
+
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    throw new IOException("Expected a JSON object in " + source);
+                }
+                final Window window = new Window(generator, sourceLang, targetLang);
+                window.add(JsonToken.START_OBJECT, null);
+                copyObject(parser, window);
+                window.add(JsonToken.END_OBJECT, null);
+                window.flush();
+            }
+            Files.move(temporary, targetPath, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private void copyObject(JsonParser parser, Window window) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.currentName();
+            final JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_STRING) {
+                window.add(JsonToken.FIELD_NAME, name);
+                window.addString(parser.getText());
+            } else if (value == JsonToken.START_OBJECT) {
+                window.add(JsonToken.FIELD_NAME, name);
+                window.add(JsonToken.START_OBJECT, null);
+                copyObject(parser, window);
+                window.add(JsonToken.END_OBJECT, null);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Tokens read but not written yet, together with the distinct texts among them
+     */
+    private class Window {
+        private final JsonGenerator generator;
+        private final String sourceLang;
+        private final String targetLang;
+
+        private final List<Token> tokens = new ArrayList<>();
+        private final List<String> texts = new ArrayList<>();
+        private final Map<String, Integer> textIndexes = new HashMap<>();
+        private int leaves;
+        private long characters;
+
+        private Window(JsonGenerator generator, String sourceLang, String targetLang) {
+            this.generator = generator;
+            this.sourceLang = sourceLang;
+            this.targetLang = targetLang;
+        }
+
+        private void add(JsonToken type, String text) throws IOException {
+            tokens.add(new Token(type, text, -1));
+            if (tokens.size() >= maxWindowTokens) {
+                flush();
+            }
+        }
+
+        private void addString(String text) throws IOException {
+            // Blank values are kept as they are, the APIs reject them
+            if (text.isBlank()) {
+                add(JsonToken.VALUE_STRING, text);
+                return;
+            }
+            final int index = textIndexes.computeIfAbsent(text, key -> {
+                texts.add(key);
+                characters += key.length();
+                return texts.size() - 1;
+            });
+            leaves++;
+            tokens.add(new Token(JsonToken.VALUE_STRING, null, index));
+            if (texts.size() >= batchSize || tokens.size() >= maxWindowTokens) {
+                flush();
+            }
+        }
+
+        private void flush() throws IOException {
+            // Counted like JsonTranslator does, texts are the distinct texts of the window
+            meterRegistry.counter(JsonTranslator.LEAVES, "target_language", targetLang).increment(leaves);
+            meterRegistry.counter(JsonTranslator.CHARACTERS, "target_language", targetLang).increment(characters);
+            statistics.leaves(targetLang, leaves);
+            statistics.texts(targetLang, texts.size());
+            leaves = 0;
+            characters = 0;
+
+            final List<String> translations = texts.isEmpty()
+                    ? List.of()
+                    : translateClient.translateBatch(texts, sourceLang, targetLang);
+            for (Token token : tokens) {
+                switch (token.type()) {
+                    case START_OBJECT -> generator.writeStartObject();
+                    case END_OBJECT -> generator.writeEndObject();
+                    case FIELD_NAME -> generator.writeFieldName(token.text());
+                    default -> generator.writeString(token.index() < 0
+                            ? token.text()
+                            : Objects.requireNonNullElse(translations.get(token.index()), ""));
+                }
+            }
+            tokens.clear();
+            texts.clear();
+            textIndexes.clear();
+        }
+    }
+
+    private record Token(JsonToken type, String text, int index) {
+    }
+}
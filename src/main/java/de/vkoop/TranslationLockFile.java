@@ -0,0 +1,136 @@
+package de.vkoop;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records, per target language and JSON pointer, the hash of the source text
+ * that the current target file was translated from. An incremental run only
+ * translates the leaves whose hash is missing or differs.
+ */
+public class TranslationLockFile {
+    private static final Logger logger = LoggerFactory.getLogger(TranslationLockFile.class);
+
+    static final int VERSION = 1;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private final Path path;
+    private final String sourceLanguage;
+    private final Map<String, Map<String, String>> languages = new ConcurrentHashMap<>();
+
+    private TranslationLockFile(Path path, String sourceLanguage) {
+        this.path = path;
+        this.sourceLanguage = sourceLanguage;
+    }
+
+    /**
+     * The lockfile that belongs to a source file, e.g. {@code i18n/de.lock.json} for {@code i18n/de.json}
+     */
+    public static Path defaultPath(String sourceFile) {
+        final Path source = Path.of(sourceFile);
+        final String fileName = source.getFileName().toString();
+        final int extension = fileName.lastIndexOf('.');
+        final String baseName = extension > 0 ? fileName.substring(0, extension) : fileName;
+        return source.resolveSibling(baseName + ".lock.json");
+    }
+
+    /**
+     * Loads the lockfile, or starts an empty one if it does not exist or was written for another source language
+     */
+    public static TranslationLockFile load(Path path, String sourceLanguage) throws IOException {
+        final TranslationLockFile lockFile = new TranslationLockFile(path, sourceLanguage);
+        if (!Files.exists(path)) {
+            return lockFile;
+        }
+
+        final Content content = objectMapper.readValue(path.toFile(), Content.class);
+        if (content.version != VERSION || !sourceLanguage.equals(content.sourceLanguage)) {
+            logger.info("Ignoring lockfile {} written for version {} and source language {}",
+                    path, content.version, content.sourceLanguage);
+            return lockFile;
+        }
+        if (content.languages != null) {
+            content.languages.forEach((language, hashes) -> lockFile.languages.put(language, new HashMap<>(hashes)));
+        }
+        return lockFile;
+    }
+
+    /**
+     * The source hashes the target file of a language was translated from, keyed by JSON pointer
+     */
+    public Map<String, String> getHashes(String targetLanguage) {
+        return languages.getOrDefault(targetLanguage, Map.of());
+    }
+
+    public void setHashes(String targetLanguage, Map<String, String> hashes) {
+        languages.put(targetLanguage, hashes);
+    }
+
+    /**
+     * Writes the lockfile through a temporary file, so an interrupted run never leaves a truncated lockfile behind
+     */
+    public void save() throws IOException {
+        final Content content = new Content();
+        content.version = VERSION;
+        content.sourceLanguage = sourceLanguage;
+        content.languages = new TreeMap<>(languages);
+
+        final Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        final Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(temporary.toFile(), content);
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Hashes every leaf of the template, keyed by JSON pointer
+     */
+    public static Map<String, String> hashes(JsonTemplate template) {
+        final Map<String, String> hashes = MapUtils.newLinkedHashMap(template.getLeaves().size());
+        template.getLeaves().forEach((pointer, text) -> hashes.put(pointer, hash(text)));
+        return hashes;
+    }
+
+    static String hash(String text) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static class Content {
+        @JsonProperty("version")
+        public int version;
+        @JsonProperty("sourceLanguage")
+        public String sourceLanguage;
+        @JsonProperty("languages")
+        public Map<String, Map<String, String>> languages;
+    }
+}
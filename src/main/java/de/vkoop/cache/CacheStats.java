@@ -0,0 +1,21 @@
+package de.vkoop.cache;
+
+/**
+ * Snapshot of the counters of a {@link StripedLruCache}
+ */
+public record CacheStats(long hits, long misses, long evictions, long size) {
+
+    public long requests() {
+        return hits + misses;
+    }
+
+    public double hitRate() {
+        return requests() == 0 ? 0.0 : (double) hits / requests();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d hits, %d misses, %d evictions, %d entries (hit rate %.1f%%)",
+                hits, misses, evictions, size, hitRate() * 100);
+    }
+}
@@ -0,0 +1,41 @@
+package de.vkoop.cache;
+
+import de.vkoop.interfaces.TranslateClient;
+
+import java.util.Map;
+
+/**
+ * Keeps recent translations of the wrapped client in memory for the lifetime
+ * of the process, so strings repeated across a run are only translated once.
+ */
+public class CachingTranslateClient extends LookupTranslateClient<CachingTranslateClient.CacheKey> {
+
+    private final StripedLruCache<CacheKey, String> cache;
+
+    public CachingTranslateClient(TranslateClient delegate, int maxEntries) {
+        super(delegate);
+        this.cache = new StripedLruCache<>(maxEntries, 4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    @Override
+    protected CacheKey key(String sourceLanguage, String targetLanguage, String text) {
+        return new CacheKey(sourceLanguage, targetLanguage, text);
+    }
+
+    @Override
+    protected String get(CacheKey key) {
+        return cache.get(key);
+    }
+
+    @Override
+    protected void store(Map<CacheKey, String> translations) {
+        translations.forEach(cache::put);
+    }
+
+    record CacheKey(String sourceLanguage, String targetLanguage, String text) {
+    }
+}
@@ -0,0 +1,163 @@
+package de.vkoop.cache;
+
+import de.vkoop.clients.ForwardingTranslateClient;
+import de.vkoop.data.Response;
+import de.vkoop.interfaces.TranslateClient;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Base class for decorators that answer texts from a store of earlier translations and only
+ * send the missing ones to the wrapped client. Batches are split into found and missing texts,
+ * and the translations of the missing texts are stored and merged back in order.
+ *
+ * @param <K> The key a translation is stored under
+ */
+public abstract class LookupTranslateClient<K> extends ForwardingTranslateClient {
+
+    protected LookupTranslateClient(TranslateClient delegate) {
+        super(delegate);
+    }
+
+    protected abstract K key(String sourceLanguage, String targetLanguage, String text);
+
+    /**
+     * @return The stored translation, or null if there is none
+     */
+    protected abstract String get(K key);
+
+    /**
+     * Looks up the texts of a batch
+     *
+     * @return The stored translations in the order of the keys, null for missing ones
+     */
+    protected List<String> getAll(List<K> keys) {
+        List<String> translations = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            translations.add(get(key));
+        }
+        return translations;
+    }
+
+    /**
+     * @param translations New translations of the wrapped client, never null
+     */
+    protected abstract void store(Map<K, String> translations);
+
+    @Override
+    public Response translate(String text, String sourceLanguage, String targetLanguage) {
+        K key = key(sourceLanguage, targetLanguage, text);
+        String stored = get(key);
+        if (stored != null) {
+            return Response.of(stored, sourceLanguage);
+        }
+
+        Response response = delegate.translate(text, sourceLanguage, targetLanguage);
+        store(key, Response.firstText(response));
+        return response;
+    }
+
+    @Override
+    public CompletableFuture<Response> translateAsync(String text, String sourceLanguage, String targetLanguage) {
+        K key = key(sourceLanguage, targetLanguage, text);
+        String stored = get(key);
+        if (stored != null) {
+            return CompletableFuture.completedFuture(Response.of(stored, sourceLanguage));
+        }
+        return storeWhenDone(key, delegate.translateAsync(text, sourceLanguage, targetLanguage));
+    }
+
+    @Override
+    public CompletableFuture<Response> translateStreaming(String text, String sourceLanguage, String targetLanguage,
+            Consumer<String> onPartial) {
+        K key = key(sourceLanguage, targetLanguage, text);
+        String stored = get(key);
+        if (stored != null) {
+            onPartial.accept(stored);
+            return CompletableFuture.completedFuture(Response.of(stored, sourceLanguage));
+        }
+        return storeWhenDone(key, delegate.translateStreaming(text, sourceLanguage, targetLanguage, onPartial));
+    }
+
+    @Override
+    public List<String> translateBatch(List<String> texts, String sourceLanguage, String targetLanguage) {
+        Lookup lookup = lookupAll(texts, sourceLanguage, targetLanguage);
+        if (lookup.missingTexts.isEmpty()) {
+            return lookup.translations;
+        }
+        return lookup.complete(delegate.translateBatch(lookup.missingTexts, sourceLanguage, targetLanguage));
+    }
+
+    @Override
+    public CompletableFuture<List<String>> translateBatchAsync(List<String> texts, String sourceLanguage, String targetLanguage) {
+        Lookup lookup = lookupAll(texts, sourceLanguage, targetLanguage);
+        if (lookup.missingTexts.isEmpty()) {
+            return CompletableFuture.completedFuture(lookup.translations);
+        }
+        CompletableFuture<List<String>> translations =
+                delegate.translateBatchAsync(lookup.missingTexts, sourceLanguage, targetLanguage);
+        return propagateCancellation(translations.thenApply(lookup::complete), translations);
+    }
+
+    private CompletableFuture<Response> storeWhenDone(K key, CompletableFuture<Response> translation) {
+        return propagateCancellation(translation
+                .thenApply(response -> {
+                    store(key, Response.firstText(response));
+                    return response;
+                }), translation);
+    }
+
+    private void store(K key, String translation) {
+        // Failed translations are not stored, a later call may succeed
+        if (translation != null) {
+            store(Map.of(key, translation));
+        }
+    }
+
+    private Lookup lookupAll(List<String> texts, String sourceLanguage, String targetLanguage) {
+        List<K> keys = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            keys.add(key(sourceLanguage, targetLanguage, text));
+        }
+        Lookup lookup = new Lookup(getAll(keys));
+        for (int i = 0; i < texts.size(); i++) {
+            if (lookup.translations.get(i) == null) {
+                lookup.missingIndexes.add(i);
+                lookup.missingTexts.add(texts.get(i));
+                lookup.missingKeys.add(keys.get(i));
+            }
+        }
+        return lookup;
+    }
+
+    private class Lookup {
+        private final List<String> translations;
+        private final List<Integer> missingIndexes = new ArrayList<>();
+        private final List<String> missingTexts = new ArrayList<>();
+        private final List<K> missingKeys = new ArrayList<>();
+
+        private Lookup(List<String> translations) {
+            this.translations = new ArrayList<>(translations);
+        }
+
+        private List<String> complete(List<String> missingTranslations) {
+            Map<K, String> entries = new LinkedHashMap<>();
+            for (int i = 0; i < missingIndexes.size(); i++) {
+                String translation = missingTranslations.get(i);
+                translations.set(missingIndexes.get(i), translation);
+                if (translation != null) {
+                    entries.put(missingKeys.get(i), translation);
+                }
+            }
+            if (!entries.isEmpty()) {
+                store(entries);
+            }
+            return translations;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package de.vkoop.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent, append-only store of translations shared by every CLI run.
+ * <p>
+ * Records are appended to a single file and read back through a memory mapping;
+ * an in-memory hash index maps each key to its record offset. Appends take an
+ * exclusive file lock, so several processes can share one directory: each
+ * process picks up the records written by the others when it next looks for a
+ * key it does not know. Every record carries a CRC, so a record torn by a
+ * crashed writer is ignored and truncated by the next writer.
+ * <p>
+ * Record layout: key length, value length, CRC32 of key and value (three ints),
+ * followed by the UTF-8 key and value bytes.
+ */
+public class TranslationMemory implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(TranslationMemory.class);
+
+    static final String FILE_NAME = "translations.tm";
+    private static final byte[] MAGIC = "DLTM0001".getBytes(StandardCharsets.US_ASCII);
+    private static final int RECORD_HEADER_SIZE = 3 * Integer.BYTES;
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    // File locks belong to the whole JVM, so instances in one process must not request them concurrently
+    private static final Object PROCESS_LOCK = new Object();
+
+    private final FileChannel channel;
+    private final long maxSize;
+    private final Map<String, Integer> index = new ConcurrentHashMap<>();
+
+    private volatile MappedByteBuffer mapped;
+    private long scannedEnd;
+    private boolean full;
+
+    public TranslationMemory(Path directory, long maxSize) throws IOException {
+        if (maxSize <= MAGIC.length || maxSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Translation memory size must be between "
+                    + (MAGIC.length + 1) + " and " + Integer.MAX_VALUE + " bytes: " + maxSize);
+        }
+        this.maxSize = maxSize;
+
+        Files.createDirectories(directory);
+        this.channel = FileChannel.open(directory.resolve(FILE_NAME),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        synchronized (PROCESS_LOCK) {
+            try (FileLock ignored = channel.lock()) {
+                initialize(directory);
+            }
+        }
+        logger.debug("Opened translation memory at {} with {} entries", directory, index.size());
+    }
+
+    private void initialize(Path directory) throws IOException {
+        if (channel.size() == 0) {
+            writeFully(ByteBuffer.wrap(MAGIC), 0);
+        } else {
+            ByteBuffer magic = ByteBuffer.allocate(MAGIC.length);
+            channel.read(magic, 0);
+            if (!ByteBuffer.wrap(MAGIC).equals(magic.flip())) {
+                channel.close();
+                throw new IOException("Not a translation memory file: " + directory.resolve(FILE_NAME));
+            }
+        }
+        scannedEnd = MAGIC.length;
+        refresh();
+    }
+
+    /**
+     * Builds the lookup key of one translation
+     */
+    public static String key(String namespace, String sourceLanguage, String targetLanguage, String text) {
+        return namespace + KEY_SEPARATOR
+                + sourceLanguage.toUpperCase() + KEY_SEPARATOR
+                + targetLanguage.toUpperCase() + KEY_SEPARATOR
+                + text;
+    }
+
+    /**
+     * Returns the stored translation, or null if the key is unknown to this process
+     */
+    public String get(String key) {
+        Integer offset = index.get(key);
+        return offset == null ? null : readValue(offset);
+    }
+
+    /**
+     * Picks up records appended by other processes since the last scan
+     */
+    public synchronized void refresh() throws IOException {
+        long size = channel.size();
+        if (size <= scannedEnd) {
+            return;
+        }
+
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        Map<String, Integer> found = new LinkedHashMap<>();
+        int position = (int) scannedEnd;
+        while (position + RECORD_HEADER_SIZE <= size) {
+            int keyLength = buffer.getInt(position);
+            int valueLength = buffer.getInt(position + Integer.BYTES);
+            int crc = buffer.getInt(position + 2 * Integer.BYTES);
+            long recordEnd = (long) position + RECORD_HEADER_SIZE + keyLength + valueLength;
+            if (keyLength < 0 || valueLength < 0 || recordEnd > size) {
+                break;
+            }
+
+            byte[] payload = new byte[keyLength + valueLength];
+            buffer.get(position + RECORD_HEADER_SIZE, payload);
+            if (crc != crc(payload)) {
+                break;
+            }
+
+            found.put(new String(payload, 0, keyLength, StandardCharsets.UTF_8), position);
+            position = (int) recordEnd;
+        }
+        scannedEnd = position;
+        // Publish the mapping before the offsets that point into it
+        mapped = buffer;
+        index.putAll(found);
+    }
+
+    public void put(String key, String value) throws IOException {
+        putAll(Map.of(key, value));
+    }
+
+    /**
+     * Appends all entries that are not stored yet, under one file lock.
+     * Entries that would grow the file beyond the size cap are dropped.
+     */
+    public synchronized void putAll(Map<String, String> entries) throws IOException {
+        if (full || entries.isEmpty()) {
+            return;
+        }
+
+        synchronized (PROCESS_LOCK) {
+            try (FileLock ignored = channel.lock()) {
+                append(entries);
+            }
+        }
+    }
+
+    private void append(Map<String, String> entries) throws IOException {
+        refresh();
+        long end = channel.size();
+        if (scannedEnd < end) {
+            // Nobody else holds the lock, so an unreadable tail was left by a crashed writer
+            logger.warn("Discarding {} bytes of incomplete translation memory records", end - scannedEnd);
+            channel.truncate(scannedEnd);
+            end = scannedEnd;
+        }
+
+        Map<String, String> newEntries = new LinkedHashMap<>();
+        entries.forEach((key, value) -> {
+            if (!index.containsKey(key)) {
+                newEntries.put(key, value);
+            }
+        });
+
+        for (Map.Entry<String, String> entry : newEntries.entrySet()) {
+            ByteBuffer record = encode(entry.getKey(), entry.getValue());
+            if (end + record.remaining() > maxSize) {
+                full = true;
+                logger.warn("Translation memory reached its size cap of {} bytes, new translations are not stored",
+                        maxSize);
+                break;
+            }
+            writeFully(record, end);
+            end += record.capacity();
+        }
+        channel.force(false);
+        refresh();
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private String readValue(int offset) {
+        MappedByteBuffer buffer = mapped;
+        int keyLength = buffer.getInt(offset);
+        int valueLength = buffer.getInt(offset + Integer.BYTES);
+        byte[] value = new byte[valueLength];
+        buffer.get(offset + RECORD_HEADER_SIZE + keyLength, value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static ByteBuffer encode(String key, String value) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] valueBytes = value.getBytes(StandardCharsets.UTF_8);
+        byte[] payload = new byte[keyBytes.length + valueBytes.length];
+        System.arraycopy(keyBytes, 0, payload, 0, keyBytes.length);
+        System.arraycopy(valueBytes, 0, payload, keyBytes.length, valueBytes.length);
+
+        return ByteBuffer.allocate(RECORD_HEADER_SIZE + payload.length)
+                .putInt(keyBytes.length)
+                .putInt(valueBytes.length)
+                .putInt(crc(payload))
+                .put(payload)
+                .flip();
+    }
+
+    private static int crc(byte[] payload) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(payload);
+        return (int) crc32.getValue();
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+}
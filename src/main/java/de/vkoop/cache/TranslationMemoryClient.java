@@ -0,0 +1,82 @@
+package de.vkoop.cache;
+
+import de.vkoop.interfaces.TranslateClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serves translations from a {@link TranslationMemory} and records every new
+ * translation of the wrapped client, so a text is only ever sent once per
+ * client and language pair.
+ */
+public class TranslationMemoryClient extends LookupTranslateClient<String> implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(TranslationMemoryClient.class);
+
+    private final TranslationMemory memory;
+    private final String namespace;
+
+    /**
+     * @param namespace Identifies the backing client (and model), so translations of different engines never mix
+     */
+    public TranslationMemoryClient(TranslateClient delegate, TranslationMemory memory, String namespace) {
+        super(delegate);
+        this.memory = memory;
+        this.namespace = namespace;
+    }
+
+    @Override
+    protected String key(String sourceLanguage, String targetLanguage, String text) {
+        return TranslationMemory.key(namespace, sourceLanguage, targetLanguage, text);
+    }
+
+    @Override
+    protected String get(String key) {
+        String stored = memory.get(key);
+        if (stored == null) {
+            // Another process may have translated it in the meantime
+            refresh();
+            stored = memory.get(key);
+        }
+        return stored;
+    }
+
+    @Override
+    protected List<String> getAll(List<String> keys) {
+        // Refreshed once for the whole batch instead of for every missing text
+        refresh();
+        List<String> translations = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            translations.add(memory.get(key));
+        }
+        return translations;
+    }
+
+    @Override
+    protected void store(Map<String, String> translations) {
+        try {
+            memory.putAll(translations);
+        } catch (IOException e) {
+            // The memory is an optimisation, a failed write must not fail the translation
+            logger.warn("Could not store translations in translation memory: {}", e.getMessage());
+        }
+    }
+
+    private void refresh() {
+        try {
+            memory.refresh();
+        } catch (IOException e) {
+            logger.warn("Could not read new translation memory records: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        memory.close();
+    }
+}
@@ -0,0 +1,193 @@
+package de.vkoop.clients;
+
+import de.vkoop.data.Response;
+import de.vkoop.exceptions.TranslationException;
+import de.vkoop.interfaces.TranslateClient;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Caps the number of requests the wrapped client has in flight at the same time.
+ * <p>
+ * Asynchronous calls beyond the limit are queued without holding a thread and start
+ * in arrival order as earlier calls complete; synchronous calls wait for a free slot.
+ * The limit applies to all callers of this instance, e.g. all target languages.
+ * <p>
+ * Cancelling a queued call removes it from the queue, so it never reaches the wrapped client.
+ * Queued calls start on an executor, not on the thread that completed the previous call.
+ */
+public class ConcurrencyLimitingTranslateClient extends ForwardingTranslateClient {
+
+    private final int maxInFlight;
+    private final Executor executor;
+    private final Deque<CompletableFuture<Void>> waiting = new ArrayDeque<>();
+    private int inFlight;
+
+    public ConcurrencyLimitingTranslateClient(TranslateClient delegate, int maxInFlight) {
+        this(delegate, maxInFlight, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param executor Starts the queued calls once a slot is free
+     */
+    ConcurrencyLimitingTranslateClient(TranslateClient delegate, int maxInFlight, Executor executor) {
+        super(delegate);
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("In-flight limit must be positive: " + maxInFlight);
+        }
+        this.maxInFlight = maxInFlight;
+        this.executor = executor;
+    }
+
+    @Override
+    public Response translate(String text, String sourceLanguage, String targetLanguage) {
+        return limited(() -> delegate.translate(text, sourceLanguage, targetLanguage));
+    }
+
+    @Override
+    public List<String> translateBatch(List<String> texts, String sourceLanguage, String targetLanguage) {
+        return limited(() -> delegate.translateBatch(texts, sourceLanguage, targetLanguage));
+    }
+
+    @Override
+    public CompletableFuture<Response> translateAsync(String text, String sourceLanguage, String targetLanguage) {
+        return limitedAsync(() -> delegate.translateAsync(text, sourceLanguage, targetLanguage));
+    }
+
+    @Override
+    public CompletableFuture<Response> translateStreaming(String text, String sourceLanguage, String targetLanguage,
+            Consumer<String> onPartial) {
+        return limitedAsync(() -> delegate.translateStreaming(text, sourceLanguage, targetLanguage, onPartial));
+    }
+
+    @Override
+    public CompletableFuture<List<String>> translateBatchAsync(List<String> texts, String sourceLanguage, String targetLanguage) {
+        return limitedAsync(() -> delegate.translateBatchAsync(texts, sourceLanguage, targetLanguage));
+    }
+
+    private <T> T limited(Supplier<T> call) {
+        CompletableFuture<Void> permit = acquire();
+        try {
+            permit.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (!dequeue(permit)) {
+                release();
+            }
+            throw new TranslationException("Interrupted while waiting for a free request slot", e);
+        } catch (ExecutionException e) {
+            // The permit future is only ever completed normally
+            throw new IllegalStateException(e);
+        }
+        try {
+            return call.get();
+        } finally {
+            release();
+        }
+    }
+
+    private <T> CompletableFuture<T> limitedAsync(Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<Void> permit = acquire();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        // A dequeued call never gets a slot; one that got it releases it in start
+        result.whenComplete((value, throwable) -> {
+            if (result.isCancelled()) {
+                dequeue(permit);
+            }
+        });
+
+        if (permit.isDone()) {
+            start(call, result);
+        } else {
+            permit.thenRunAsync(() -> start(call, result), executor);
+        }
+        return result;
+    }
+
+    private <T> void start(Supplier<CompletableFuture<T>> call, CompletableFuture<T> result) {
+        if (result.isDone()) {
+            // Cancelled while the slot was being handed over
+            release();
+            return;
+        }
+
+        CompletableFuture<T> translation;
+        try {
+            translation = call.get();
+        } catch (RuntimeException e) {
+            release();
+            result.completeExceptionally(e);
+            return;
+        }
+        translation.whenComplete((value, throwable) -> {
+            release();
+            if (throwable != null) {
+                result.completeExceptionally(throwable);
+            } else {
+                result.complete(value);
+            }
+        });
+        propagateCancellation(result, translation);
+    }
+
+    /**
+     * Removes a permit from the queue
+     *
+     * @return Whether it was still queued; otherwise it holds a slot that must be released
+     */
+    private boolean dequeue(CompletableFuture<Void> permit) {
+        synchronized (waiting) {
+            return waiting.remove(permit);
+        }
+    }
+
+    private CompletableFuture<Void> acquire() {
+        synchronized (waiting) {
+            if (inFlight < maxInFlight) {
+                inFlight++;
+                return CompletableFuture.completedFuture(null);
+            }
+            CompletableFuture<Void> permit = new CompletableFuture<>();
+            waiting.add(permit);
+            return permit;
+        }
+    }
+
+    private void release() {
+        CompletableFuture<Void> next;
+        synchronized (waiting) {
+            // The slot passes straight to the next waiter, so inFlight stays the same
+            next = waiting.poll();
+            if (next == null) {
+                inFlight--;
+            }
+        }
+        if (next != null) {
+            next.complete(null);
+        }
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    int getQueued() {
+        synchronized (waiting) {
+            return waiting.size();
+        }
+    }
+
+    int getInFlight() {
+        synchronized (waiting) {
+            return inFlight;
+        }
+    }
+}
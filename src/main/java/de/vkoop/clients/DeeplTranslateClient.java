@@ -4,28 +4,54 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import de.vkoop.data.Response;
+import de.vkoop.jfr.TranslationRequestEvent;
+import de.vkoop.exceptions.QuotaExceededException;
 import de.vkoop.exceptions.TranslationException;
 import de.vkoop.interfaces.TranslateClient;
+import de.vkoop.report.TranslationStatistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
 import java.net.URI;
+import java.net.URLEncoder;
 import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 @ConditionalOnProperty(name = "translate.client", havingValue = "deepl")
 @Component("deeplClient")
 public class DeeplTranslateClient implements TranslateClient {
     private static final Logger logger = LoggerFactory.getLogger(DeeplTranslateClient.class);
 
+    // DeepL accepts at most 50 text parameters per request
+    static final int MAX_TEXTS_PER_REQUEST = 50;
+
+    // DeepL-specific status for an exhausted character quota
+    static final int QUOTA_EXCEEDED = 456;
+
+    private static final String CLIENT_NAME = "deepl";
+
     private static final Set<String> SUPPORTED_SOURCE_LANGUAGES = new HashSet<>(
             Set.of("AR",
                     "BG",
@@ -96,11 +122,19 @@ public class DeeplTranslateClient implements TranslateClient {
                     "ZH-HANS",
                     "ZH-HANT"));
 
-    private String authKey;
+    // Set by the command, read by the threads that send the requests
+    private volatile String authKey;
     private final ObjectMapper objectMapper = new ObjectMapper();
     private HttpClient httpClient;
     private final String deeplApiUrl;
 
+    private RateLimiter rateLimiter = new RateLimiter(10);
+    private int maxRetries = 5;
+    private long retryBaseDelayMillis = 500;
+    private long maxRetryDelayMillis = 30_000;
+    private volatile boolean quotaExceeded;
+    private TranslationStatistics statistics = new TranslationStatistics();
+
     public DeeplTranslateClient(
             @org.springframework.beans.factory.annotation.Value("${translate.deepl.url:https://api-free.deepl.com/v2/translate}") String deeplApiUrl) {
         this.deeplApiUrl = deeplApiUrl;
@@ -110,12 +144,211 @@ public class DeeplTranslateClient implements TranslateClient {
 
     @Override
     public Response translate(String text, String sourceLanguage, String targetLanguage) {
+        final HttpRequest request = buildTranslateRequest(text, sourceLanguage, targetLanguage);
+
+        final TranslationRequestEvent event = TranslationRequestEvent.start(CLIENT_NAME, sourceLanguage, targetLanguage, text);
+        try {
+            var client = send(request, event, targetLanguage);
+            return readTranslateResponse(client);
+        } catch (InterruptedException | IOException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw apiCallFailed(e);
+        } finally {
+            event.finish();
+        }
+    }
+
+    @Override
+    public CompletableFuture<Response> translateAsync(String text, String sourceLanguage, String targetLanguage) {
+        final HttpRequest request;
+        try {
+            request = buildTranslateRequest(text, sourceLanguage, targetLanguage);
+        } catch (TranslationException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        final TranslationRequestEvent event = TranslationRequestEvent.start(CLIENT_NAME, sourceLanguage, targetLanguage, text);
+        return sendAsync(request, event, targetLanguage, 0)
+                .handle((client, throwable) -> {
+                    event.finish();
+                    if (throwable != null) {
+                        throw apiCallFailed(throwable);
+                    }
+                    try {
+                        return readTranslateResponse(client);
+                    } catch (IOException e) {
+                        throw apiCallFailed(e);
+                    }
+                });
+    }
+
+    @Override
+    public List<String> translateBatch(List<String> texts, String sourceLanguage, String targetLanguage) {
+        List<String> translations = new ArrayList<>(texts.size());
+        for (List<String> chunk : chunks(texts)) {
+            final HttpRequest request = buildBatchRequest(chunk, sourceLanguage, targetLanguage);
+            final TranslationRequestEvent event = TranslationRequestEvent.start(CLIENT_NAME, sourceLanguage, targetLanguage, chunk);
+            try {
+                var client = send(request, event, targetLanguage);
+                translations.addAll(readBatchResponse(client, chunk.size()));
+            } catch (InterruptedException | IOException e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                throw apiCallFailed(e);
+            } finally {
+                event.finish();
+            }
+        }
+        return translations;
+    }
+
+    @Override
+    public CompletableFuture<List<String>> translateBatchAsync(List<String> texts, String sourceLanguage, String targetLanguage) {
+        final List<CompletableFuture<List<String>>> chunkFutures = new ArrayList<>();
+        try {
+            for (List<String> chunk : chunks(texts)) {
+                final HttpRequest request = buildBatchRequest(chunk, sourceLanguage, targetLanguage);
+                final TranslationRequestEvent event = TranslationRequestEvent.start(CLIENT_NAME, sourceLanguage, targetLanguage, chunk);
+                chunkFutures.add(sendAsync(request, event, targetLanguage, 0)
+                        .handle((client, throwable) -> {
+                            event.finish();
+                            if (throwable != null) {
+                                throw apiCallFailed(throwable);
+                            }
+                            try {
+                                return readBatchResponse(client, chunk.size());
+                            } catch (IOException e) {
+                                throw apiCallFailed(e);
+                            }
+                        }));
+            }
+        } catch (TranslationException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return CompletableFuture.allOf(chunkFutures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> chunkFutures.stream()
+                        .flatMap(chunkFuture -> chunkFuture.join().stream())
+                        .toList());
+    }
+
+    /**
+     * Sends the request within the rate limit, retrying throttled and failed requests with backoff
+     *
+     * @param event          Told about every response, so a recording shows the final status and the retries
+     * @param targetLanguage The language the retries are counted for in the run report
+     */
+    private HttpResponse<String> send(HttpRequest request, TranslationRequestEvent event, String targetLanguage)
+            throws IOException, InterruptedException {
+        for (int attempt = 0; ; attempt++) {
+            TimeUnit.NANOSECONDS.sleep(rateLimiter.reserve());
+            HttpResponse<String> response = getHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+            event.response(response.statusCode());
+            long retryDelayMillis = retryDelayMillis(response, attempt);
+            if (retryDelayMillis < 0) {
+                return response;
+            }
+            statistics.retries(targetLanguage, 1);
+            TimeUnit.MILLISECONDS.sleep(retryDelayMillis);
+        }
+    }
+
+    private CompletableFuture<HttpResponse<String>> sendAsync(HttpRequest request, TranslationRequestEvent event,
+            String targetLanguage, int attempt) {
+        return delay(rateLimiter.reserve(), TimeUnit.NANOSECONDS)
+                .thenCompose(ignored -> getHttpClient().sendAsync(request, HttpResponse.BodyHandlers.ofString()))
+                .thenCompose(response -> {
+                    event.response(response.statusCode());
+                    long retryDelayMillis = retryDelayMillis(response, attempt);
+                    if (retryDelayMillis < 0) {
+                        return CompletableFuture.completedFuture(response);
+                    }
+                    statistics.retries(targetLanguage, 1);
+                    return delay(retryDelayMillis, TimeUnit.MILLISECONDS)
+                            .thenCompose(ignored -> sendAsync(request, event, targetLanguage, attempt + 1));
+                });
+    }
+
+    private static CompletableFuture<Void> delay(long duration, TimeUnit unit) {
+        if (duration <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> {
+        }, CompletableFuture.delayedExecutor(duration, unit));
+    }
+
+    /**
+     * Decides whether a response has to be retried
+     *
+     * @return How long to wait before the next attempt, or -1 if the response is final
+     * @throws QuotaExceededException if the account quota is used up
+     * @throws TranslationException   if the request is still throttled or failing after all retries
+     */
+    private long retryDelayMillis(HttpResponse<String> response, int attempt) {
+        int statusCode = response.statusCode();
+        if (statusCode == QUOTA_EXCEEDED) {
+            quotaExceeded = true;
+            logErrorResponse(statusCode, response.body());
+            throw new QuotaExceededException("DeepL quota exceeded, no further requests are sent");
+        }
+        boolean throttled = statusCode == 429 || statusCode == 503;
+        if (!throttled && statusCode < 500) {
+            if (statusCode == 200) {
+                rateLimiter.onSuccess();
+            }
+            return -1;
+        }
+
+        if (attempt >= maxRetries) {
+            logErrorResponse(statusCode, response.body());
+            throw new TranslationException("DeepL API returned " + statusCode + " after " + maxRetries + " retries");
+        }
+
+        // Full jitter keeps parallel language jobs from retrying in lockstep
+        long backoffMillis = ThreadLocalRandom.current().nextLong(
+                Math.min(maxRetryDelayMillis, retryBaseDelayMillis << Math.min(attempt, 30)) + 1);
+        long retryAfterMillis = throttled ? retryAfterMillis(response) : -1;
+        if (throttled) {
+            rateLimiter.onThrottled(TimeUnit.MILLISECONDS.toNanos(Math.max(0, retryAfterMillis)));
+        }
+        long delayMillis = retryAfterMillis >= 0 ? retryAfterMillis : backoffMillis;
+        logger.warn("DeepL API returned {}, retrying in {} ms (attempt {} of {})",
+                statusCode, delayMillis, attempt + 1, maxRetries);
+        return delayMillis;
+    }
+
+    /**
+     * Reads the Retry-After header, which holds either a number of seconds or an HTTP date
+     *
+     * @return The wait in milliseconds, or -1 if the header is missing or invalid
+     */
+    static long retryAfterMillis(HttpResponse<?> response) {
+        HttpHeaders headers = response.headers();
+        Optional<String> retryAfter = headers == null ? Optional.empty() : headers.firstValue("Retry-After");
+        if (retryAfter.isEmpty()) {
+            return -1;
+        }
+        String value = retryAfter.get().trim();
+        try {
+            return TimeUnit.SECONDS.toMillis(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime retryAt = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Math.max(0, Duration.between(ZonedDateTime.now(retryAt.getZone()), retryAt).toMillis());
+            } catch (DateTimeParseException ignored) {
+                return -1;
+            }
+        }
+    }
+
+    private HttpRequest buildTranslateRequest(String text, String sourceLanguage, String targetLanguage) {
         if (text == null || text.trim().isEmpty()) {
             throw new TranslationException("Text cannot be null or empty");
         }
-        if (authKey == null || authKey.trim().isEmpty()) {
-            throw new TranslationException("Authentication key is required");
-        }
+        requireAuthKey();
 
         try {
             final URI uri = UriComponentsBuilder
@@ -127,46 +360,130 @@ public class DeeplTranslateClient implements TranslateClient {
                     .build()
                     .toUri();
 
-            var client = getHttpClient()
-                    .send(
-                            HttpRequest.newBuilder()
-                                    .uri(uri)
-                                    .header("Accept", "application/json")
-                                    .GET()
-                                    .build(),
-                            HttpResponse.BodyHandlers.ofString());
-
-            var responseBody = client.body();
-
-            int statusCode = client.statusCode();
-            if (statusCode != 200) {
-                logger.error("DeepL API returned error code {}: {}", statusCode, responseBody);
-                // Try to extract error message from response if possible
-                try {
-                    var errorNode = objectMapper.readTree(responseBody);
-                    if (errorNode.has("message")) {
-                        var errorMessage = errorNode.get("message").asText();
-                        logger.error("Error message: {}", errorMessage);
-                    }
-                } catch (Exception e) {
-                    logger.error("Could not parse error response", e);
-                }
-                return null;
-            }
+            return HttpRequest.newBuilder()
+                    .uri(uri)
+                    .header("Accept", "application/json")
+                    .GET()
+                    .build();
+        } catch (IllegalArgumentException e) {
+            logger.error("Failed to construct API URL", e);
+            throw new TranslationException("Failed to construct API URL", e);
+        }
+    }
 
-            return objectMapper.readValue(responseBody, Response.class);
-        } catch (InterruptedException | IOException e) {
-            if (e instanceof InterruptedException) {
-                Thread.currentThread().interrupt();
-            }
-            logger.error("Exception during translation", e);
-            throw new TranslationException("Translation API call failed", e);
+    private HttpRequest buildBatchRequest(List<String> texts, String sourceLanguage, String targetLanguage) {
+        requireAuthKey();
+
+        try {
+            return HttpRequest.newBuilder()
+                    .uri(URI.create(deeplApiUrl))
+                    .header("Accept", "application/json")
+                    .header("Content-Type", "application/x-www-form-urlencoded")
+                    .header("Authorization", "DeepL-Auth-Key " + authKey)
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            buildFormBody(texts, sourceLanguage, targetLanguage)))
+                    .build();
         } catch (IllegalArgumentException e) {
             logger.error("Failed to construct API URL", e);
             throw new TranslationException("Failed to construct API URL", e);
         }
     }
 
+    private void requireAuthKey() {
+        if (authKey == null || authKey.trim().isEmpty()) {
+            throw new TranslationException("Authentication key is required");
+        }
+        if (quotaExceeded) {
+            throw new QuotaExceededException("DeepL quota exceeded, no further requests are sent");
+        }
+    }
+
+    private static List<List<String>> chunks(List<String> texts) {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int start = 0; start < texts.size(); start += MAX_TEXTS_PER_REQUEST) {
+            chunks.add(texts.subList(start, Math.min(start + MAX_TEXTS_PER_REQUEST, texts.size())));
+        }
+        return chunks;
+    }
+
+    private Response readTranslateResponse(HttpResponse<String> client) throws IOException {
+        var responseBody = client.body();
+
+        int statusCode = client.statusCode();
+        if (statusCode != 200) {
+            logErrorResponse(statusCode, responseBody);
+            return null;
+        }
+
+        return parseResponse(responseBody);
+    }
+
+    private List<String> readBatchResponse(HttpResponse<String> client, int textCount) throws IOException {
+        var responseBody = client.body();
+
+        int statusCode = client.statusCode();
+        if (statusCode != 200) {
+            logErrorResponse(statusCode, responseBody);
+            return Collections.nCopies(textCount, null);
+        }
+
+        Response response = parseResponse(responseBody);
+        if (response.translations == null || response.translations.size() != textCount) {
+            throw new TranslationException("DeepL API returned "
+                    + (response.translations == null ? 0 : response.translations.size())
+                    + " translations for " + textCount + " texts");
+        }
+        return response.translations.stream()
+                .map(translation -> translation.text)
+                .toList();
+    }
+
+    Response parseResponse(String responseBody) throws IOException {
+        return objectMapper.readValue(responseBody, Response.class);
+    }
+
+    private TranslationException apiCallFailed(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        if (cause instanceof TranslationException translationException) {
+            return translationException;
+        }
+        logger.error("Exception during translation", cause);
+        return new TranslationException("Translation API call failed", cause);
+    }
+
+    static String buildFormBody(List<String> texts, String sourceLanguage, String targetLanguage) {
+        StringBuilder body = new StringBuilder();
+        for (String text : texts) {
+            appendFormParameter(body, "text", text);
+        }
+        appendFormParameter(body, "target_lang", targetLanguage);
+        appendFormParameter(body, "source_lang", sourceLanguage);
+        return body.toString();
+    }
+
+    private static void appendFormParameter(StringBuilder body, String name, String value) {
+        if (body.length() > 0) {
+            body.append('&');
+        }
+        body.append(name).append('=').append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+    }
+
+    private void logErrorResponse(int statusCode, String responseBody) {
+        logger.error("DeepL API returned error code {}: {}", statusCode, responseBody);
+        // Try to extract error message from response if possible
+        try {
+            var errorNode = objectMapper.readTree(responseBody);
+            if (errorNode.has("message")) {
+                var errorMessage = errorNode.get("message").asText();
+                logger.error("Error message: {}", errorMessage);
+            }
+        } catch (Exception e) {
+            logger.error("Could not parse error response", e);
+        }
+    }
+
     @Override
     public Set<String> getSupportedSourceLanguages() {
         return Collections.unmodifiableSet(SUPPORTED_SOURCE_LANGUAGES);
@@ -177,7 +494,7 @@ public class DeeplTranslateClient implements TranslateClient {
         return Collections.unmodifiableSet(SUPPORTED_TARGET_LANGUAGES);
     }
 
-    protected HttpClient getHttpClient() {
+    protected synchronized HttpClient getHttpClient() {
         if (httpClient == null) {
             httpClient = createHttpClient();
         }
@@ -191,4 +508,32 @@ public class DeeplTranslateClient implements TranslateClient {
     public void setAuthKey(String authKey) {
         this.authKey = authKey;
     }
+
+    @org.springframework.beans.factory.annotation.Value("${translate.deepl.max-requests-per-second:10}")
+    public void setMaxRequestsPerSecond(double maxRequestsPerSecond) {
+        this.rateLimiter = new RateLimiter(maxRequestsPerSecond);
+    }
+
+    @Autowired(required = false)
+    public void setStatistics(TranslationStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    @org.springframework.beans.factory.annotation.Value("${translate.deepl.max-retries:5}")
+    public void setMaxRetries(int maxRetries) {
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("Retries must not be negative: " + maxRetries);
+        }
+        this.maxRetries = maxRetries;
+    }
+
+    @org.springframework.beans.factory.annotation.Value("${translate.deepl.retry-base-delay-ms:500}")
+    public void setRetryBaseDelayMillis(long retryBaseDelayMillis) {
+        this.retryBaseDelayMillis = retryBaseDelayMillis;
+    }
+
+    @org.springframework.beans.factory.annotation.Value("${translate.deepl.max-retry-delay-ms:30000}")
+    public void setMaxRetryDelayMillis(long maxRetryDelayMillis) {
+        this.maxRetryDelayMillis = maxRetryDelayMillis;
+    }
 }
@@ -0,0 +1,88 @@
+package de.vkoop.clients;
+
+import de.vkoop.data.Response;
+import de.vkoop.interfaces.TranslateClient;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Base class for decorators that add behaviour around another {@link TranslateClient}.
+ * Every method forwards to the delegate; subclasses override the calls they intercept.
+ */
+public abstract class ForwardingTranslateClient implements TranslateClient {
+
+    protected final TranslateClient delegate;
+
+    protected ForwardingTranslateClient(TranslateClient delegate) {
+        this.delegate = delegate;
+    }
+
+    public TranslateClient getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Cancels the future of the delegate when the future derived from it is cancelled. Futures derived
+     * with {@code thenApply} and the like do not do this themselves, so without it a caller giving up
+     * a call would not reach queued calls further down the chain.
+     *
+     * @return {@code derived}
+     */
+    protected static <T> CompletableFuture<T> propagateCancellation(CompletableFuture<T> derived, CompletableFuture<?> source) {
+        derived.whenComplete((result, throwable) -> {
+            if (derived.isCancelled()) {
+                source.cancel(false);
+            }
+        });
+        return derived;
+    }
+
+    @Override
+    public Response translate(String text, String sourceLanguage, String targetLanguage) {
+        return delegate.translate(text, sourceLanguage, targetLanguage);
+    }
+
+    @Override
+    public List<String> translateBatch(List<String> texts, String sourceLanguage, String targetLanguage) {
+        return delegate.translateBatch(texts, sourceLanguage, targetLanguage);
+    }
+
+    @Override
+    public CompletableFuture<Response> translateAsync(String text, String sourceLanguage, String targetLanguage) {
+        return delegate.translateAsync(text, sourceLanguage, targetLanguage);
+    }
+
+    @Override
+    public CompletableFuture<Response> translateStreaming(String text, String sourceLanguage, String targetLanguage,
+            Consumer<String> onPartial) {
+        return delegate.translateStreaming(text, sourceLanguage, targetLanguage, onPartial);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> translateBatchAsync(List<String> texts, String sourceLanguage, String targetLanguage) {
+        return delegate.translateBatchAsync(texts, sourceLanguage, targetLanguage);
+    }
+
+    @Override
+    public CompletableFuture<Void> warmUp() {
+        return delegate.warmUp();
+    }
+
+    @Override
+    public Set<String> getSupportedSourceLanguages() {
+        return delegate.getSupportedSourceLanguages();
+    }
+
+    @Override
+    public Set<String> getSupportedTargetLanguages() {
+        return delegate.getSupportedTargetLanguages();
+    }
+
+    @Override
+    public void setAuthKey(String authKey) {
+        delegate.setAuthKey(authKey);
+    }
+}
@@ -1,19 +1,38 @@
 package de.vkoop.clients;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import de.vkoop.data.Response;
 import de.vkoop.interfaces.TranslateClient;
+import de.vkoop.jfr.TranslationRequestEvent;
+import de.vkoop.report.TranslationStatistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.ollama.api.OllamaOptions;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @ConditionalOnProperty(name = "translate.client", havingValue = "ollama")
 @Component("ollamaClient")
@@ -21,8 +40,22 @@ public class OllamaTranslateClient implements TranslateClient {
 
     private static final Logger logger = LoggerFactory.getLogger(OllamaTranslateClient.class);
 
+    // Re-sends of the entries a model response left out or garbled, before they count as failed
+    static final int MAX_BATCH_ATTEMPTS = 3;
+
+    private static final String CLIENT_NAME = "ollama";
+
+    // Spring AI only returns content for a successful response
+    private static final int HTTP_OK = 200;
+
     private final ChatClient chatClient;
     private final Resource translationPrompt;
+    private final Resource batchTranslationPrompt;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private int batchSize = 20;
+
+    private TranslationStatistics statistics = new TranslationStatistics();
 
     // Common language codes supported by most LLMs
     private static final Set<String> SUPPORTED_LANGUAGES = new HashSet<>(Arrays.asList(
@@ -32,9 +65,27 @@ public class OllamaTranslateClient implements TranslateClient {
             "CA", "HR", "IS", "MS", "FA", "SR", "BS", "MK", "GA", "SQ", "NB", "PT-BR"));
 
     public OllamaTranslateClient(ChatClient.Builder chatClientBuilder,
-            @Value("classpath:/prompts/translation.st") Resource translationPrompt) {
+            @Value("classpath:/prompts/translation.st") Resource translationPrompt,
+            @Value("classpath:/prompts/translation-batch.st") Resource batchTranslationPrompt) {
         this.chatClient = chatClientBuilder.build();
         this.translationPrompt = translationPrompt;
+        this.batchTranslationPrompt = batchTranslationPrompt;
+    }
+
+    /**
+     * Maximum number of texts packed into one prompt, larger batches are split
+     */
+    @Value("${translate.ollama.batch-size:20}")
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.batchSize = batchSize;
+    }
+
+    @Autowired(required = false)
+    public void setStatistics(TranslationStatistics statistics) {
+        this.statistics = statistics;
     }
 
     @Override
@@ -46,29 +97,360 @@ public class OllamaTranslateClient implements TranslateClient {
 
         logger.debug("Translating text from {} to {}", sourceLanguage, targetLanguage);
 
+        TranslationRequestEvent event = TranslationRequestEvent.start(CLIENT_NAME, sourceLanguage, targetLanguage, text);
         try {
-            String translatedText = chatClient.prompt()
-                    .system(s -> s.text(translationPrompt)
-                            .param("sourceLanguage", sourceLanguage)
-                            .param("targetLanguage", targetLanguage))
-                    .user(text)
+            String translatedText = prompt(text, sourceLanguage, targetLanguage)
                     .call()
                     .content();
-
-            // Create and return Response object
-            Response response = new Response();
-            Response.Translation translation = new Response.Translation();
-            translation.detectedSourceLanguage = sourceLanguage;
-            translation.text = translatedText;
-            response.translations = List.of(translation);
+            event.response(HTTP_OK);
 
             logger.debug("Translation successful");
-            return response;
+            return Response.of(translatedText, sourceLanguage);
 
         } catch (Exception e) {
+            recordFailure(event, e);
             logger.error("Translation failed: {}", e.getMessage(), e);
             return null;
+        } finally {
+            event.finish();
+        }
+    }
+
+    @Override
+    public CompletableFuture<Response> translateAsync(String text, String sourceLanguage, String targetLanguage) {
+        if (text == null || text.trim().isEmpty()) {
+            logger.warn("Empty text provided for translation");
+            return CompletableFuture.completedFuture(null);
+        }
+
+        logger.debug("Translating text asynchronously from {} to {}", sourceLanguage, targetLanguage);
+
+        // The streaming endpoint runs on the reactive HTTP client, so no thread waits for the model
+        TranslationRequestEvent event = TranslationRequestEvent.start(CLIENT_NAME, sourceLanguage, targetLanguage, text);
+        return prompt(text, sourceLanguage, targetLanguage)
+                .stream()
+                .content()
+                .collect(Collectors.joining())
+                .toFuture()
+                .handle((translatedText, throwable) -> {
+                    if (throwable != null) {
+                        recordFailure(event, throwable);
+                        event.finish();
+                        logger.error("Translation failed: {}", throwable.getMessage(), throwable);
+                        return null;
+                    }
+                    event.response(HTTP_OK);
+                    event.finish();
+                    logger.debug("Translation successful");
+                    return Response.of(translatedText, sourceLanguage);
+                });
+    }
+
+    @Override
+    public CompletableFuture<Response> translateStreaming(String text, String sourceLanguage, String targetLanguage,
+            Consumer<String> onPartial) {
+        if (text == null || text.trim().isEmpty()) {
+            logger.warn("Empty text provided for translation");
+            return CompletableFuture.completedFuture(null);
+        }
+
+        logger.debug("Streaming translation from {} to {}", sourceLanguage, targetLanguage);
+
+        TranslationRequestEvent event = TranslationRequestEvent.start(CLIENT_NAME, sourceLanguage, targetLanguage, text);
+        return prompt(text, sourceLanguage, targetLanguage)
+                .stream()
+                .content()
+                .doOnNext(onPartial)
+                .collect(Collectors.joining())
+                .toFuture()
+                .handle((translatedText, throwable) -> {
+                    if (throwable != null) {
+                        recordFailure(event, throwable);
+                        event.finish();
+                        logger.error("Translation failed: {}", throwable.getMessage(), throwable);
+                        return null;
+                    }
+                    event.response(HTTP_OK);
+                    event.finish();
+                    logger.debug("Translation successful");
+                    return Response.of(translatedText, sourceLanguage);
+                });
+    }
+
+    @Override
+    public List<String> translateBatch(List<String> texts, String sourceLanguage, String targetLanguage) {
+        List<String> translations = new ArrayList<>(texts.size());
+        for (List<String> chunk : chunks(texts)) {
+            BatchRequest request = new BatchRequest(chunk);
+            for (int attempt = 1; attempt <= MAX_BATCH_ATTEMPTS && request.hasPending(); attempt++) {
+                logger.debug("Translating {} texts from {} to {}, attempt {}",
+                        request.pendingCount(), sourceLanguage, targetLanguage, attempt);
+                countRetry(targetLanguage, attempt);
+                TranslationRequestEvent event = TranslationRequestEvent.start(
+                        CLIENT_NAME, sourceLanguage, targetLanguage, request.pendingTexts());
+                try {
+                    String content = batchPrompt(request, sourceLanguage, targetLanguage)
+                            .call()
+                            .content();
+                    event.response(HTTP_OK);
+                    request.accept(content);
+                } catch (Exception e) {
+                    recordFailure(event, e);
+                    logger.error("Batch translation failed: {}", e.getMessage(), e);
+                } finally {
+                    event.finish();
+                }
+            }
+            translations.addAll(request.finish());
+        }
+        return translations;
+    }
+
+    @Override
+    public CompletableFuture<List<String>> translateBatchAsync(List<String> texts, String sourceLanguage, String targetLanguage) {
+        // Chunks run one after another, so a batch occupies one model slot like the synchronous call
+        CompletableFuture<List<String>> translations = CompletableFuture.completedFuture(new ArrayList<>(texts.size()));
+        for (List<String> chunk : chunks(texts)) {
+            translations = translations.thenCompose(translated ->
+                    translateChunkAsync(new BatchRequest(chunk), sourceLanguage, targetLanguage, 1)
+                            .thenApply(chunkTranslations -> {
+                                translated.addAll(chunkTranslations);
+                                return translated;
+                            }));
+        }
+        return translations;
+    }
+
+    private CompletableFuture<List<String>> translateChunkAsync(
+            BatchRequest request, String sourceLanguage, String targetLanguage, int attempt) {
+        logger.debug("Translating {} texts asynchronously from {} to {}, attempt {}",
+                request.pendingCount(), sourceLanguage, targetLanguage, attempt);
+        countRetry(targetLanguage, attempt);
+        TranslationRequestEvent event = TranslationRequestEvent.start(
+                CLIENT_NAME, sourceLanguage, targetLanguage, request.pendingTexts());
+        CompletableFuture<String> content;
+        try {
+            content = batchPrompt(request, sourceLanguage, targetLanguage)
+                    .stream()
+                    .content()
+                    .collect(Collectors.joining())
+                    .toFuture();
+        } catch (Exception e) {
+            content = CompletableFuture.failedFuture(e);
+        }
+
+        return content
+                .handle((responseContent, throwable) -> {
+                    if (throwable != null) {
+                        recordFailure(event, throwable);
+                        event.finish();
+                        logger.error("Batch translation failed: {}", throwable.getMessage(), throwable);
+                    } else {
+                        event.response(HTTP_OK);
+                        event.finish();
+                        request.accept(responseContent);
+                    }
+                    return request.hasPending() && attempt < MAX_BATCH_ATTEMPTS;
+                })
+                .thenCompose(retry -> retry
+                        ? translateChunkAsync(request, sourceLanguage, targetLanguage, attempt + 1)
+                        : CompletableFuture.completedFuture(request.finish()));
+    }
+
+    /**
+     * Counts the repetition of a batch for the run report
+     */
+    private void countRetry(String targetLanguage, int attempt) {
+        if (attempt > 1) {
+            statistics.retries(targetLanguage, 1);
+        }
+    }
+
+    /**
+     * Loads the model with a one-token completion. The model then stays resident for the
+     * keep-alive configured in spring.ai.ollama.chat.options.keep-alive.
+     */
+    @Override
+    public CompletableFuture<Void> warmUp() {
+        logger.debug("Loading model");
+        long start = System.nanoTime();
+        CompletableFuture<String> content;
+        try {
+            content = chatClient.prompt()
+                    .options(OllamaOptions.builder()
+                            .numPredict(1)
+                            .build())
+                    .user("Hi")
+                    .stream()
+                    .content()
+                    .collect(Collectors.joining())
+                    .toFuture();
+        } catch (Exception e) {
+            content = CompletableFuture.failedFuture(e);
+        }
+
+        return content.handle((ignored, throwable) -> {
+            if (throwable != null) {
+                // The first translation loads the model instead
+                logger.warn("Model warm-up failed: {}", throwable.getMessage());
+            } else {
+                logger.debug("Model loaded in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Adds the status of a failed call to its event, if the call failed with an HTTP error status
+     */
+    private static void recordFailure(TranslationRequestEvent event, Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        if (cause instanceof RestClientResponseException responseException) {
+            event.response(responseException.getStatusCode().value());
+        } else if (cause instanceof WebClientResponseException responseException) {
+            event.response(responseException.getStatusCode().value());
+        }
+    }
+
+    private ChatClient.ChatClientRequestSpec batchPrompt(BatchRequest request, String sourceLanguage, String targetLanguage) {
+        return chatClient.prompt()
+                // Structured output: Ollama constrains the answer to an object with exactly the pending keys
+                .options(OllamaOptions.builder()
+                        .format(request.schema())
+                        .build())
+                .system(s -> s.text(batchTranslationPrompt)
+                        .param("sourceLanguage", sourceLanguage)
+                        .param("targetLanguage", targetLanguage))
+                .user(request.userMessage());
+    }
+
+    private List<List<String>> chunks(List<String> texts) {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int start = 0; start < texts.size(); start += batchSize) {
+            chunks.add(texts.subList(start, Math.min(start + batchSize, texts.size())));
+        }
+        return chunks;
+    }
+
+    private ChatClient.ChatClientRequestSpec prompt(String text, String sourceLanguage, String targetLanguage) {
+        return chatClient.prompt()
+                .system(s -> s.text(translationPrompt)
+                        .param("sourceLanguage", sourceLanguage)
+                        .param("targetLanguage", targetLanguage))
+                .user(text);
+    }
+
+    /**
+     * Texts of one prompt, keyed by their position, and the translations collected for them so far
+     */
+    private class BatchRequest {
+        private final List<String> texts;
+        private final String[] translations;
+        private final Set<Integer> pending = new LinkedHashSet<>();
+
+        private BatchRequest(List<String> texts) {
+            this.texts = texts;
+            this.translations = new String[texts.size()];
+            for (int i = 0; i < texts.size(); i++) {
+                // Blank texts fail like in translate(), the model would only echo them
+                if (texts.get(i) != null && !texts.get(i).isBlank()) {
+                    pending.add(i);
+                }
+            }
+        }
+
+        private boolean hasPending() {
+            return !pending.isEmpty();
+        }
+
+        private int pendingCount() {
+            return pending.size();
+        }
+
+        private List<String> pendingTexts() {
+            List<String> pendingTexts = new ArrayList<>(pending.size());
+            for (int index : pending) {
+                pendingTexts.add(texts.get(index));
+            }
+            return pendingTexts;
+        }
+
+        private String userMessage() {
+            Map<String, String> entries = new LinkedHashMap<>();
+            for (int index : pending) {
+                entries.put(String.valueOf(index), texts.get(index));
+            }
+            try {
+                return objectMapper.writeValueAsString(entries);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Could not serialize texts", e);
+            }
+        }
+
+        private Map<String, Object> schema() {
+            Map<String, Object> properties = new LinkedHashMap<>();
+            for (int index : pending) {
+                properties.put(String.valueOf(index), Map.of("type", "string"));
+            }
+            return Map.of(
+                    "type", "object",
+                    "properties", properties,
+                    "required", List.copyOf(properties.keySet()));
+        }
+
+        /**
+         * Takes the valid translations from a model response, entries that are missing or not a string stay pending
+         */
+        private void accept(String content) {
+            JsonNode response;
+            try {
+                response = objectMapper.readTree(stripCodeFence(content));
+            } catch (JsonProcessingException e) {
+                logger.warn("Model returned malformed JSON: {}", e.getOriginalMessage());
+                return;
+            }
+            if (response == null || !response.isObject()) {
+                logger.warn("Model returned no JSON object");
+                return;
+            }
+
+            for (Iterator<Integer> iterator = pending.iterator(); iterator.hasNext(); ) {
+                int index = iterator.next();
+                JsonNode translation = response.get(String.valueOf(index));
+                if (translation != null && translation.isTextual() && !translation.asText().isBlank()) {
+                    translations[index] = translation.asText();
+                    iterator.remove();
+                }
+            }
+            if (!pending.isEmpty()) {
+                logger.warn("Model response lacks valid translations for {} of {} texts", pending.size(), texts.size());
+            }
+        }
+
+        private List<String> finish() {
+            if (!pending.isEmpty()) {
+                logger.error("Giving up on {} texts after {} attempts", pending.size(), MAX_BATCH_ATTEMPTS);
+            }
+            return Arrays.asList(translations);
+        }
+    }
+
+    /**
+     * Some models wrap JSON in a Markdown code block even when asked for plain JSON
+     */
+    static String stripCodeFence(String content) {
+        String trimmed = content == null ? "" : content.trim();
+        if (!trimmed.startsWith("```")) {
+            return trimmed;
+        }
+        int firstLineEnd = trimmed.indexOf('\n');
+        int closingFence = trimmed.lastIndexOf("```");
+        if (firstLineEnd < 0 || closingFence <= firstLineEnd) {
+            return trimmed;
         }
+        return trimmed.substring(firstLineEnd + 1, closingFence).trim();
     }
 
     @Override
@@ -0,0 +1,94 @@
+package de.vkoop.clients;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket that spaces out the requests to a remote API.
+ * <p>
+ * The rate adapts to the server: a throttling response halves it, down to a floor,
+ * and pauses all callers for the time the server asked for. Requests sent before
+ * the rate was halved are answered during that back-off window, so their throttling
+ * responses do not halve it again. Every successful response raises it again step
+ * by step towards the configured maximum.
+ */
+public class RateLimiter {
+
+    private static final double MIN_RATE_FRACTION = 1.0 / 64;
+    private static final double RECOVERY_FRACTION = 1.0 / 20;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    // Back-off window of throttling responses without Retry-After
+    private static final long MIN_BACKOFF_NANOS = NANOS_PER_SECOND;
+
+    private final double maxPermitsPerSecond;
+    private final double burst;
+    private final LongSupplier nanoClock;
+
+    private double permitsPerSecond;
+    private double storedPermits;
+    private long lastRefill;
+    private long pausedUntil;
+    private long backoffUntil;
+
+    public RateLimiter(double maxPermitsPerSecond) {
+        this(maxPermitsPerSecond, System::nanoTime);
+    }
+
+    RateLimiter(double maxPermitsPerSecond, LongSupplier nanoClock) {
+        if (maxPermitsPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate must be positive: " + maxPermitsPerSecond);
+        }
+        this.maxPermitsPerSecond = maxPermitsPerSecond;
+        this.permitsPerSecond = maxPermitsPerSecond;
+        // Allow a burst of one second worth of requests, but at least one
+        this.burst = Math.max(1, maxPermitsPerSecond);
+        this.storedPermits = burst;
+        this.nanoClock = nanoClock;
+        this.lastRefill = nanoClock.getAsLong();
+        this.pausedUntil = lastRefill;
+        this.backoffUntil = lastRefill;
+    }
+
+    /**
+     * Takes a permit and returns how long the caller has to wait before using it
+     *
+     * @return The wait in nanoseconds, 0 if the request may be sent right away
+     */
+    public synchronized long reserve() {
+        final long now = refill();
+        // Permits may go into debt, the wait pays it back at the current rate
+        storedPermits -= 1;
+        final long debtWait = storedPermits >= 0 ? 0 : (long) (-storedPermits / permitsPerSecond * NANOS_PER_SECOND);
+        return Math.max(debtWait, pausedUntil - now);
+    }
+
+    /**
+     * Slows down after the server throttled a request. The rate is halved at most once per back-off
+     * window, which lasts as long as the server asked to wait, but at least a second.
+     *
+     * @param retryAfterNanos How long the server asked to wait, 0 if it did not say
+     */
+    public synchronized void onThrottled(long retryAfterNanos) {
+        final long now = refill();
+        if (now - backoffUntil >= 0) {
+            permitsPerSecond = Math.max(maxPermitsPerSecond * MIN_RATE_FRACTION, permitsPerSecond / 2);
+            backoffUntil = now + Math.max(retryAfterNanos, MIN_BACKOFF_NANOS);
+        }
+        storedPermits = Math.min(storedPermits, 0);
+        pausedUntil = Math.max(pausedUntil, now + retryAfterNanos);
+    }
+
+    public synchronized void onSuccess() {
+        permitsPerSecond = Math.min(maxPermitsPerSecond, permitsPerSecond + maxPermitsPerSecond * RECOVERY_FRACTION);
+    }
+
+    public synchronized double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    private long refill() {
+        final long now = nanoClock.getAsLong();
+        storedPermits = Math.min(burst, storedPermits + (now - lastRefill) * permitsPerSecond / NANOS_PER_SECOND);
+        lastRefill = now;
+        return now;
+    }
+}
@@ -1,8 +1,13 @@
 package de.vkoop.commands;
 
+import de.vkoop.cache.CachingTranslateClient;
+import de.vkoop.clients.ForwardingTranslateClient;
+import de.vkoop.config.SharedAuthKey;
 import de.vkoop.exceptions.ConfigurationException;
 import de.vkoop.exceptions.TranslationException;
+import de.vkoop.execution.TranslationExecutor;
 import de.vkoop.interfaces.TranslateClient;
+import de.vkoop.jfr.FlightRecording;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,6 +16,7 @@ import picocli.CommandLine;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
@@ -36,9 +42,31 @@ public abstract class BaseCommand implements Runnable {
     @CommandLine.Option(names = "-n")
     private String translationClientName;
 
+    @CommandLine.Option(names = "--jfr", description = "Record the run with Java Flight Recorder into this file, "
+            + "e.g. run.jfr for JDK Mission Control")
+    public Path jfrFile;
+
     @Autowired
     protected TranslateClient translateClient;
 
+    @Autowired(required = false)
+    private TranslationExecutor translationExecutor;
+
+    @Autowired(required = false)
+    private SharedAuthKey sharedAuthKey;
+
+    @Override
+    public void run() {
+        try (FlightRecording ignored = FlightRecording.start(jfrFile)) {
+            execute();
+        }
+    }
+
+    /**
+     * Runs the command, within a flight recording if {@code --jfr} is given
+     */
+    protected abstract void execute();
+
     protected void validateLanguages() {
         if (!translateClient.getSupportedSourceLanguages().contains(sourceLanguage)) {
             logger.error("Unsupported source language: {}", sourceLanguage);
@@ -57,7 +85,8 @@ public abstract class BaseCommand implements Runnable {
         if (authKey == null && configurationFile == null && !loadConfigFromHome) {
             logger.error("No authentication provided will exit.");
             throw new ConfigurationException("No authentication provided will exit.");
-        } else if (loadConfigFromHome || configurationFile != null) {
+        }
+        if (loadConfigFromHome || configurationFile != null) {
             Properties properties = new Properties();
             try (FileInputStream inStream = (loadConfigFromHome)
                     ? new FileInputStream(System.getProperty("user.home") + File.separator + ".transcli.properties")
@@ -71,18 +100,44 @@ public abstract class BaseCommand implements Runnable {
                 Optional.ofNullable(properties.getProperty("targetLanguages"))
                         .map(value -> List.of(value.split(",")))
                         .ifPresent(value -> this.targetLanguages = value);
-
-                translateClient.setAuthKey(this.authKey);
             } catch (IOException e) {
                 logger.error("Failed to load file: {}", configurationFile);
                 throw new ConfigurationException("Failed to load file: " + configurationFile, e);
             }
         }
-    }
 
+        if (sharedAuthKey != null) {
+            sharedAuthKey.use(authKey);
+        } else {
+            // Commands created outside the Spring context own their client
+            translateClient.setAuthKey(authKey);
+        }
+    }
 
+    protected void logCacheStatistics() {
+        TranslateClient client = translateClient;
+        while (client instanceof ForwardingTranslateClient forwardingClient) {
+            if (client instanceof CachingTranslateClient cachingClient) {
+                logger.info("Translation cache: {}", cachingClient.getStats());
+                return;
+            }
+            client = forwardingClient.getDelegate();
+        }
+    }
 
     public void setTranslateClient(TranslateClient translateClient) {
         this.translateClient = translateClient;
     }
+
+    protected synchronized TranslationExecutor getTranslationExecutor() {
+        if (translationExecutor == null) {
+            // Commands created outside the Spring context get a default pool
+            translationExecutor = new TranslationExecutor(TranslationExecutor.DEFAULT_THREADS, false);
+        }
+        return translationExecutor;
+    }
+
+    public void setTranslationExecutor(TranslationExecutor translationExecutor) {
+        this.translationExecutor = translationExecutor;
+    }
 }
@@ -1,31 +1,54 @@
 package de.vkoop.commands;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import de.vkoop.JsonTemplate;
 import de.vkoop.JsonTranslator;
+import de.vkoop.StreamingJsonTranslator;
+import de.vkoop.TranslationLockFile;
+import de.vkoop.exceptions.ConfigurationException;
+import de.vkoop.exceptions.QuotaExceededException;
 import de.vkoop.exceptions.TranslationException;
+import de.vkoop.jfr.PipelineStageEvent;
+import de.vkoop.report.RunRecorder;
+import de.vkoop.report.TranslationStatistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @Component
+@Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
 @Command(name = "json", description = "Translate JSON files using DeepL API")
 public class JsonCommand extends BaseCommand {
     private static final Logger logger = LoggerFactory.getLogger(JsonCommand.class);
 
-    @Option(names = "--json-file", required = true)
+    // Translated documents keep the key order of the source unless --sort-keys is given
+    static final ObjectWriter OUTPUT_WRITER = new ObjectMapper()
+            .writerWithDefaultPrettyPrinter();
+    static final ObjectWriter SORTED_OUTPUT_WRITER = OUTPUT_WRITER
+            .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+    // Target of every file in the multi-file mode, relative to the output folder
+    static final String DEFAULT_OUTPUT_PATTERN = "{lang}/{file}";
+
+    @Option(names = "--json-file", required = true, description = "The JSON file to translate, or a directory "
+            + "or glob pattern (e.g. 'locales/de/*.json') to translate several files in one run")
     public String jsonFile;
 
     @Option(names = "--json-target-file")
@@ -34,44 +57,173 @@ public class JsonCommand extends BaseCommand {
     @Option(names = "--output-folder")
     public Optional<String> outputFolder;
 
+    @Option(names = "--incremental", description = "Only translate keys that are new or changed since the last run. "
+            + "Unchanged keys are copied from the existing target files.")
+    public boolean incremental;
+
+    @Option(names = "--lockfile", description = "Lockfile of the incremental mode, defaults to <json-file name>.lock.json "
+            + "next to the source file")
+    public String lockFile;
+
+    @Option(names = "--streaming", description = "Translate the file token by token with flat memory use, "
+            + "for very large files. Keys keep their source order.")
+    public boolean streaming;
+
+    @Option(names = "--output-pattern", description = "Target path of each file when translating a directory or glob, "
+            + "relative to --output-folder. {lang} is the target language, {file} the source path below the "
+            + "source directory, {name} the source file name without extension. Default: " + DEFAULT_OUTPUT_PATTERN)
+    public String outputPattern;
+
+    @Option(names = "--sort-keys", description = "Sort the keys of the output files alphabetically "
+            + "instead of keeping the order of the source file")
+    public boolean sortKeys;
+
+    @Option(names = "--report", description = "Write a JSON report of the run to this file: wall time, leaves, "
+            + "requests, characters sent, cache hits, retries, empty results and output bytes of every target language, "
+            + "parse and write time and peak concurrency, e.g. for CI dashboards")
+    public Path reportFile;
+
     @Autowired
     public JsonTranslator jsonTranslator;
 
+    @Autowired
+    public StreamingJsonTranslator streamingJsonTranslator;
+
+    @Autowired(required = false)
+    private TranslationStatistics statistics;
+
+    private RunRecorder recorder;
+
     @Override
-    public void run() {
+    protected void execute() {
         loadConfigFromFile();
         validateLanguages();
+        if (streaming && incremental) {
+            throw new ConfigurationException("--streaming cannot be combined with --incremental");
+        }
+        if (streaming && sortKeys) {
+            throw new ConfigurationException("--streaming cannot be combined with --sort-keys");
+        }
+
+        final boolean multiFile = JsonSourceFiles.isMultiFile(jsonFile);
+        if (multiFile && (streaming || incremental || jsonTargetFile != null)) {
+            throw new ConfigurationException(
+                    "--streaming, --incremental and --json-target-file need a single file as --json-file");
+        }
+        if (!multiFile && outputPattern != null) {
+            throw new ConfigurationException("--output-pattern needs a directory or glob pattern as --json-file");
+        }
+
+        // Collected on every run, so the report costs nothing but writing the file
+        recorder = new RunRecorder(getStatistics(), sourceLanguage, targetLanguages);
+        try {
+            translate(multiFile);
+        } finally {
+            writeReport();
+        }
+    }
+
+    private void translate(boolean multiFile) {
+        // Loads the model (if any) while the source is parsed, the first batches then find it ready
+        translateClient.warmUp();
+
+        if (multiFile) {
+            translateFiles();
+            return;
+        }
 
+        // Parsed once, every language renders its output from the same template
+        final JsonTemplate template = streaming ? null : parseSource(jsonFile);
+        final TranslationLockFile translationLock = incremental ? loadLockFile() : null;
+        final Map<String, String> sourceHashes = incremental ? TranslationLockFile.hashes(template) : Map.of();
+
+        translateLanguages(
+                targetLanguage -> translateSingleLanguage(template, targetLanguage, translationLock, sourceHashes),
+                translationLock);
+    }
+
+    /**
+     * Translates every file of the source directory or glob. All files of a language form one job,
+     * so texts shared between files are translated once.
+     */
+    private void translateFiles() {
+        final List<JsonSourceFiles.SourceFile> sourceFiles;
+        try {
+            sourceFiles = JsonSourceFiles.resolve(jsonFile);
+        } catch (IOException e) {
+            throw new TranslationException("Failed to list JSON files: " + jsonFile, e);
+        }
+        if (sourceFiles.isEmpty()) {
+            throw new ConfigurationException("No JSON files found for " + jsonFile);
+        }
+
+        final List<JsonTemplate> templates = sourceFiles
+                .stream()
+                .map(sourceFile -> parseSource(sourceFile.path().toString()))
+                .toList();
+        logger.info("Translating {} files into {} languages", sourceFiles.size(), targetLanguages.size());
+
+        translateLanguages(targetLanguage -> {
+            final List<Map<String, Object>> outputs = jsonTranslator.translateAll(templates, sourceLanguage, targetLanguage);
+            for (int i = 0; i < sourceFiles.size(); i++) {
+                writeOutput(getFile(targetFile(sourceFiles.get(i), targetLanguage)), outputs.get(i), targetLanguage);
+            }
+        }, null);
+    }
+
+    /**
+     * Translation of one target language
+     */
+    @FunctionalInterface
+    private interface LanguageJob {
+        void translate(String targetLanguage) throws IOException;
+    }
+
+    private void translateLanguages(LanguageJob job, TranslationLockFile translationLock) {
         AtomicInteger successCount = new AtomicInteger(0);
         AtomicInteger failureCount = new AtomicInteger(0);
 
-        // Use CompletableFuture for proper error isolation
-        List<CompletableFuture<Void>> translationFutures = targetLanguages
+        // Every language is an isolated job, only an exhausted quota stops the others
+        List<Callable<Void>> translationJobs = targetLanguages
                 .stream()
-                .map(targetLanguage -> CompletableFuture.runAsync(() -> {
+                .map(targetLanguage -> (Callable<Void>) () -> {
+                    boolean success = false;
+                    recorder.languageStarted(targetLanguage);
                     try {
-                        translateSingleLanguage(jsonTranslator, targetLanguage);
+                        job.translate(targetLanguage);
+                        success = true;
                         int successes = successCount.incrementAndGet();
                         logger.info("Successfully translated to {}: {} of {} languages completed",
                                    targetLanguage, successes, targetLanguages.size());
                     } catch (Exception e) {
+                        QuotaExceededException quotaExceeded = findQuotaExceeded(e);
+                        if (quotaExceeded != null) {
+                            // An exhausted quota fails every further request, so report it instead of the individual failures
+                            throw quotaExceeded;
+                        }
                         int failures = failureCount.incrementAndGet();
                         logger.error("Failed to translate to {} ({} of {} failed): {}",
                                     targetLanguage, failures, targetLanguages.size(), e.getMessage(), e);
                         // Error is isolated - doesn't affect other translations
+                    } finally {
+                        recorder.languageFinished(targetLanguage, success);
                     }
-                }))
+                    return null;
+                })
                 .toList();
 
-        // Wait for all translations to complete
-        CompletableFuture.allOf(translationFutures.toArray(new CompletableFuture[0])).join();
+        try {
+            getTranslationExecutor().invokeAll(translationJobs);
+        } finally {
+            logger.info("Translation completed: {} successes, {} failures out of {} total languages",
+                       successCount.get(), failureCount.get(), targetLanguages.size());
+            logCacheStatistics();
+            saveLockFile(translationLock, successCount.get());
+        }
 
         int totalSuccesses = successCount.get();
         int totalFailures = failureCount.get();
 
-        logger.info("Translation completed: {} successes, {} failures out of {} total languages",
-                   totalSuccesses, totalFailures, targetLanguages.size());
-
         // Only throw exception if ALL translations failed
         if (totalSuccesses == 0 && totalFailures > 0) {
             throw new TranslationException("All translations failed. No output files were generated.");
@@ -80,51 +232,181 @@ public class JsonCommand extends BaseCommand {
         }
     }
 
+    private static void saveLockFile(TranslationLockFile translationLock, int successes) {
+        if (translationLock == null || successes == 0) {
+            return;
+        }
+        try {
+            translationLock.save();
+        } catch (IOException e) {
+            // The outputs are complete, the next run just translates more than necessary
+            logger.error("Failed to write lockfile: {}", e.getMessage(), e);
+        }
+    }
+
+    private static QuotaExceededException findQuotaExceeded(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof QuotaExceededException quotaExceededException) {
+                return quotaExceededException;
+            }
+        }
+        return null;
+    }
+
+    private JsonTemplate parseSource(String file) {
+        final long start = System.nanoTime();
+        try {
+            return jsonTranslator.parse(file);
+        } catch (IOException e) {
+            logger.error("Failed to read JSON file: {}", file);
+            throw new TranslationException("Failed to read JSON file: " + file, e);
+        } finally {
+            recorder.parsed(System.nanoTime() - start);
+        }
+    }
+
+    private TranslationLockFile loadLockFile() {
+        final Path path = lockFile != null ? Path.of(lockFile) : TranslationLockFile.defaultPath(jsonFile);
+        try {
+            return TranslationLockFile.load(path, sourceLanguage);
+        } catch (IOException e) {
+            logger.error("Failed to read lockfile: {}", path);
+            throw new TranslationException("Failed to read lockfile: " + path, e);
+        }
+    }
+
     private void translateSingleLanguage(
-            JsonTranslator jsonParser,
-            String targetLanguage
+            JsonTemplate template,
+            String targetLanguage,
+            TranslationLockFile translationLock,
+            Map<String, String> sourceHashes
     ) throws IOException {
-        final Map<String, Object> stringObjectMap =
-                jsonParser.translateJsonFile(
-                        jsonFile,
+        if (streaming) {
+            final File resultFile = targetFile(targetLanguage);
+            createParentFolder(resultFile);
+            streamingJsonTranslator.translate(new File(jsonFile), resultFile, sourceLanguage, targetLanguage);
+            // Written while translating, so there is no separate write time
+            recorder.written(targetLanguage, resultFile.length(), 0);
+            return;
+        }
+
+        if (translationLock == null) {
+            final Map<String, Object> stringObjectMap =
+                    jsonTranslator.translate(
+                            template,
+                            sourceLanguage,
+                            targetLanguage
+                    );
+            writeOutput(getFile(targetFile(targetLanguage)), stringObjectMap, targetLanguage);
+            return;
+        }
+
+        final JsonTranslator.IncrementalResult result =
+                jsonTranslator.translateIncrementally(
+                        template,
+                        sourceHashes,
+                        translationLock.getHashes(targetLanguage),
+                        readPreviousOutput(targetFile(targetLanguage)),
                         sourceLanguage,
                         targetLanguage
                 );
-        final ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.configure(
-                SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS,
-                true
-        );
+        writeOutput(getFile(targetFile(targetLanguage)), result.output(), targetLanguage);
+        // Only lock what was actually written
+        translationLock.setHashes(targetLanguage, result.hashes());
+    }
+
+    private void writeOutput(File file, Map<String, Object> document, String targetLanguage) throws IOException {
+        final PipelineStageEvent event = PipelineStageEvent.start(PipelineStageEvent.WRITE, file.getPath(), targetLanguage);
+        final long start = System.nanoTime();
+        outputWriter().writeValue(file, document);
+        recorder.written(targetLanguage, file.length(), System.nanoTime() - start);
+        event.finish(0, file.length());
+    }
+
+    private void writeReport() {
+        if (reportFile == null) {
+            return;
+        }
+        try {
+            recorder.write(reportFile);
+            logger.info("Run report written to {}", reportFile);
+        } catch (IOException e) {
+            // The outputs are complete, only the report is missing
+            logger.error("Failed to write run report {}: {}", reportFile, e.getMessage(), e);
+        }
+    }
+
+    private synchronized TranslationStatistics getStatistics() {
+        if (statistics == null) {
+            // Commands created outside the Spring context only count for their own report
+            statistics = new TranslationStatistics();
+        }
+        return statistics;
+    }
 
-        final File resultFile = getFile(targetLanguage);
-        objectMapper
-                .writerWithDefaultPrettyPrinter()
-                .writeValue(resultFile, stringObjectMap);
+    public void setStatistics(TranslationStatistics statistics) {
+        this.statistics = statistics;
     }
 
-    private File getFile(String targetLanguage) throws IOException {
-        final File resultFile;
-        String targetLanguageLowerCase = targetLanguage
+    private ObjectWriter outputWriter() {
+        return sortKeys ? SORTED_OUTPUT_WRITER : OUTPUT_WRITER;
+    }
+
+    private Map<String, Object> readPreviousOutput(File targetFile) {
+        if (targetFile.length() == 0) {
+            return Map.of();
+        }
+        try {
+            return jsonTranslator.parseAsMap(targetFile.getPath());
+        } catch (IOException e) {
+            logger.warn("Could not read existing target file {}, translating it completely: {}",
+                    targetFile, e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private static File getFile(File resultFile) throws IOException {
+        createParentFolder(resultFile);
+        resultFile.createNewFile();
+        return resultFile;
+    }
+
+    private static void createParentFolder(File file) {
+        final File parentFolder = file.getAbsoluteFile().getParentFile();
+        if (!parentFolder.exists()) {
+            parentFolder.mkdirs();
+        }
+    }
+
+    private File targetFile(JsonSourceFiles.SourceFile sourceFile, String targetLanguage) {
+        final String relativePath = Objects.requireNonNullElse(outputPattern, DEFAULT_OUTPUT_PATTERN)
+                .replace("{lang}", languageFileName(targetLanguage))
+                .replace("{file}", sourceFile.relativePath())
+                .replace("{name}", sourceFile.name());
+        return outputFolder
+                .map(folder -> new File(folder, relativePath))
+                .orElseGet(() -> new File(relativePath));
+    }
+
+    private static String languageFileName(String targetLanguage) {
+        return targetLanguage
                 .toLowerCase()
                 .replace('-', '_');
+    }
+
+    private File targetFile(String targetLanguage) {
+        String targetLanguageLowerCase = languageFileName(targetLanguage);
         if (outputFolder.isPresent() && jsonTargetFile == null) {
-            final File parentFolder = new File(outputFolder.get());
-            if (!parentFolder.exists()) {
-                parentFolder.mkdirs();
-            }
-            resultFile = new File(
-                    parentFolder,
+            return new File(
+                    outputFolder.get(),
                     targetLanguageLowerCase + ".json"
             );
-        } else {
-            resultFile = new File(
-                    Objects.requireNonNullElseGet(
-                            jsonTargetFile,
-                            () -> targetLanguageLowerCase + ".json"
-                    )
-            );
         }
-        resultFile.createNewFile();
-        return resultFile;
+        return new File(
+                Objects.requireNonNullElseGet(
+                        jsonTargetFile,
+                        () -> targetLanguageLowerCase + ".json"
+                )
+        );
     }
 }
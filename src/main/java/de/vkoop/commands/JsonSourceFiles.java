@@ -0,0 +1,94 @@
+package de.vkoop.commands;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Resolves the {@code --json-file} argument of the multi-file mode: a directory, whose JSON files
+ * are all translated, or a glob pattern such as {@code locales/de/*.json}.
+ */
+final class JsonSourceFiles {
+
+    private static final String LOCK_FILE_SUFFIX = ".lock.json";
+
+    private JsonSourceFiles() {
+    }
+
+    /**
+     * One source file
+     *
+     * @param path         The file to translate
+     * @param relativePath The path below the source directory, or below the last directory before the first glob
+     *                     character, with '/' as separator
+     */
+    record SourceFile(Path path, String relativePath) {
+
+        /**
+         * The file name without the .json extension
+         */
+        String name() {
+            String fileName = path.getFileName().toString();
+            return fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - ".json".length()) : fileName;
+        }
+    }
+
+    static boolean isMultiFile(String jsonFile) {
+        return hasGlob(jsonFile) || Files.isDirectory(Path.of(jsonFile));
+    }
+
+    /**
+     * Lists the matching files sorted by relative path. Lockfiles of the incremental mode are never included.
+     */
+    static List<SourceFile> resolve(String jsonFile) throws IOException {
+        if (!hasGlob(jsonFile)) {
+            // Every JSON file of the directory and its subdirectories
+            return find(Path.of(jsonFile), Integer.MAX_VALUE, path -> path.getFileName().toString().endsWith(".json"));
+        }
+
+        final Path pattern = Path.of(jsonFile);
+        int firstGlob = 0;
+        while (firstGlob < pattern.getNameCount() && !hasGlob(pattern.getName(firstGlob).toString())) {
+            firstGlob++;
+        }
+        final Path base = baseDirectory(pattern, firstGlob);
+        final String glob = pattern.subpath(firstGlob, pattern.getNameCount()).toString();
+        final PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + glob);
+        // Without ** a pattern only matches as many levels deep as it has segments
+        final int maxDepth = glob.contains("**") ? Integer.MAX_VALUE : pattern.getNameCount() - firstGlob;
+        return find(base, maxDepth, matcher);
+    }
+
+    private static Path baseDirectory(Path pattern, int firstGlob) {
+        if (firstGlob == 0) {
+            return pattern.getRoot() != null ? pattern.getRoot() : Path.of(".");
+        }
+        final Path prefix = pattern.subpath(0, firstGlob);
+        return pattern.getRoot() != null ? pattern.getRoot().resolve(prefix) : prefix;
+    }
+
+    private static List<SourceFile> find(Path base, int maxDepth, PathMatcher relativeMatcher) throws IOException {
+        if (!Files.isDirectory(base)) {
+            return List.of();
+        }
+        try (Stream<Path> paths = Files.walk(base, maxDepth)) {
+            return paths
+                    .filter(Files::isRegularFile)
+                    .filter(path -> !path.getFileName().toString().endsWith(LOCK_FILE_SUFFIX))
+                    .map(path -> new SourceFile(path, base.relativize(path).toString().replace(File.separatorChar, '/')))
+                    .filter(sourceFile -> relativeMatcher.matches(Path.of(sourceFile.relativePath())))
+                    .sorted(Comparator.comparing(SourceFile::relativePath))
+                    .toList();
+        }
+    }
+
+    private static boolean hasGlob(String path) {
+        return path.chars().anyMatch(c -> c == '*' || c == '?' || c == '[' || c == '{');
+    }
+}
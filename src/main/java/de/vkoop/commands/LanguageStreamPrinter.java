@@ -0,0 +1,60 @@
+package de.vkoop.commands;
+
+import java.io.PrintWriter;
+import java.util.List;
+
+/**
+ * Prints the partial translations of several languages that are generated at the same time.
+ * <p>
+ * Every language gets one line, prefixed with its code, in the order of the target languages.
+ * The current line is printed as the pieces arrive; pieces of later languages are buffered
+ * until their line is reached, so the lines never interleave.
+ */
+class LanguageStreamPrinter {
+    private final PrintWriter out;
+    private final List<String> languages;
+    private final StringBuilder[] pending;
+    private final boolean[] completed;
+    private int current;
+
+    LanguageStreamPrinter(PrintWriter out, List<String> languages) {
+        this.out = out;
+        this.languages = languages;
+        this.pending = new StringBuilder[languages.size()];
+        this.completed = new boolean[languages.size()];
+        for (int i = 0; i < pending.length; i++) {
+            pending[i] = new StringBuilder();
+        }
+        if (!languages.isEmpty()) {
+            startLine();
+        }
+    }
+
+    synchronized void print(int language, String partial) {
+        if (language == current) {
+            out.print(partial);
+            out.flush();
+        } else {
+            pending[language].append(partial);
+        }
+    }
+
+    synchronized void complete(int language) {
+        completed[language] = true;
+        while (current < languages.size() && completed[current]) {
+            out.println();
+            current++;
+            if (current < languages.size()) {
+                startLine();
+            }
+        }
+        out.flush();
+    }
+
+    private void startLine() {
+        out.print(languages.get(current) + ": ");
+        out.print(pending[current]);
+        pending[current] = null;
+        out.flush();
+    }
+}
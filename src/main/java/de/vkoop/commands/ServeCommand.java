@@ -0,0 +1,112 @@
+package de.vkoop.commands;
+
+import de.vkoop.AppStarter;
+import de.vkoop.config.SharedAuthKey;
+import de.vkoop.daemon.DaemonEndpoint;
+import de.vkoop.daemon.DaemonResponse;
+import de.vkoop.daemon.DaemonServer;
+import de.vkoop.exceptions.AuthKeyConflictException;
+import de.vkoop.exceptions.ConfigurationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+@Command(name = "serve", description = "Keep the translation client, its connections and caches running and serve "
+        + "translate commands, which the CLI then forwards here instead of starting up")
+public class ServeCommand implements Runnable {
+    private static final Logger logger = LoggerFactory.getLogger(ServeCommand.class);
+
+    @Option(names = "--port", defaultValue = "0", description = "Localhost port to listen on, 0 picks a free one")
+    public int port;
+
+    @Option(names = "--threads", defaultValue = "4", description = "Commands served at the same time")
+    public int threads;
+
+    private final CommandLine.IFactory factory;
+    private final SharedAuthKey sharedAuthKey;
+
+    public ServeCommand(CommandLine.IFactory factory, SharedAuthKey sharedAuthKey) {
+        this.factory = factory;
+        this.sharedAuthKey = sharedAuthKey;
+    }
+
+    @Override
+    public void run() {
+        // Commands run concurrently on one client, so they all have to use the key of the first one
+        sharedAuthKey.pin();
+
+        final Path endpointFile = DaemonEndpoint.defaultFile();
+        final DaemonServer server;
+        try {
+            server = new DaemonServer(port, threads, this::execute);
+            server.getEndpoint().write(endpointFile);
+        } catch (IOException e) {
+            throw new ConfigurationException("Failed to start the daemon: " + e.getMessage(), e);
+        }
+
+        final CountDownLatch stopped = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            try {
+                server.getEndpoint().deleteIfOwned(endpointFile);
+            } catch (IOException e) {
+                logger.warn("Could not remove {}: {}", endpointFile, e.getMessage());
+            }
+            stopped.countDown();
+        }, "daemon-shutdown"));
+
+        server.start();
+        logger.info("Serving translate commands on localhost:{}, stop with Ctrl+C", server.getEndpoint().port());
+        try {
+            stopped.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs a forwarded command line like the CLI would, with its output captured for the client
+     *
+     * @throws DaemonServer.RejectedException If the command brings another auth key than the daemon uses
+     */
+    DaemonResponse execute(List<String> args) {
+        if (args.isEmpty() || !"translate".equals(args.get(0))) {
+            return new DaemonResponse(2, "", "The daemon only serves translate commands" + System.lineSeparator());
+        }
+
+        StringWriter out = new StringWriter();
+        StringWriter err = new StringWriter();
+        CommandLine commandLine = AppStarter.AppCommand.configure(new CommandLine(AppStarter.AppCommand.class, factory));
+        commandLine.setOut(new PrintWriter(out, true));
+        commandLine.setErr(new PrintWriter(err, true));
+        final AtomicReference<AuthKeyConflictException> conflict = new AtomicReference<>();
+        final CommandLine.IExecutionExceptionHandler exceptionHandler = commandLine.getExecutionExceptionHandler();
+        commandLine.setExecutionExceptionHandler((exception, failedCommandLine, parseResult) -> {
+            if (exception instanceof AuthKeyConflictException authKeyConflict) {
+                // Raised before anything was translated, so the client can still run the command itself
+                conflict.set(authKeyConflict);
+                return 2;
+            }
+            return exceptionHandler.handleExecutionException(exception, failedCommandLine, parseResult);
+        });
+
+        logger.info("Running {}", String.join(" ", args));
+        int exitCode = commandLine.execute(args.toArray(String[]::new));
+        if (conflict.get() != null) {
+            throw new DaemonServer.RejectedException(conflict.get().getMessage());
+        }
+        return new DaemonResponse(exitCode, out.toString(), err.toString());
+    }
+}
@@ -1,31 +1,64 @@
 package de.vkoop.commands;
 
+import de.vkoop.data.Response;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 import picocli.CommandLine.Command;
+import picocli.CommandLine.Model.CommandSpec;
 import picocli.CommandLine.Option;
+import picocli.CommandLine.Spec;
 
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 @Component
+@Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
 @Command(name = "text", description = "Translate text using DeepL API")
 public class TextCommand extends BaseCommand {
 
     @Option(names = "--text", required = true)
     public String text;
 
+    @Option(names = "--stream", description = "Print the translations while they are generated, one line per language "
+            + "prefixed with the language code, instead of one CSV line at the end")
+    public boolean stream;
+
+    @Spec
+    CommandSpec spec;
+
     @Override
-    public void run() {
+    protected void execute() {
         loadConfigFromFile();
         validateLanguages();
 
-        var translatedCsvLine = targetLanguages
+        if (stream) {
+            printStreaming();
+        } else {
+            printCsvLine();
+        }
+        logCacheStatistics();
+    }
+
+    private void printCsvLine() {
+        // Languages are translated in parallel, the results keep the order of the target languages
+        List<Callable<Response>> translationJobs = targetLanguages
                 .stream()
-                // .parallel()
-                .map(targetLanguage ->
+                .map(targetLanguage -> (Callable<Response>) () ->
                         translateClient
                                 .translate(text, sourceLanguage, targetLanguage)
                 )
+                .toList();
+
+        var translatedCsvLine = getTranslationExecutor()
+                .invokeAll(translationJobs)
+                .stream()
                 .filter(Objects::nonNull)
                 .map(response -> response.translations)
                 .map(translations ->
@@ -34,6 +67,36 @@ public class TextCommand extends BaseCommand {
                 .map(translation -> "\"" + translation + "\"")
                 .collect(Collectors.joining(";"));
 
-        System.out.println(translatedCsvLine);
+        out().println(translatedCsvLine);
+    }
+
+    private void printStreaming() {
+        // Every language streams at once, the printer shows them one line after another
+        LanguageStreamPrinter printer = new LanguageStreamPrinter(out(), targetLanguages);
+        List<CompletableFuture<Response>> translations = new ArrayList<>(targetLanguages.size());
+        for (int i = 0; i < targetLanguages.size(); i++) {
+            final int language = i;
+            translations.add(translateClient
+                    .translateStreaming(text, sourceLanguage, targetLanguages.get(language),
+                            partial -> printer.print(language, partial))
+                    .whenComplete((response, throwable) -> printer.complete(language)));
+        }
+
+        try {
+            CompletableFuture.allOf(translations.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * The output of the command line, which the daemon redirects to the calling client
+     */
+    private PrintWriter out() {
+        // Commands created outside picocli print to the console
+        return spec != null ? spec.commandLine().getOut() : new PrintWriter(System.out, true);
     }
 }
@@ -1,10 +1,14 @@
 package de.vkoop.commands;
 
 
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 import picocli.CommandLine.Command;
 
+// A fresh instance per command line, like its subcommands: the daemon parses concurrent requests into them
 @Component
+@Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
 @Command(
     name = "translate",
     description = "Translation commands using DeepL API",
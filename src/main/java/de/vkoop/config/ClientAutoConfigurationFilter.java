@@ -0,0 +1,65 @@
+package de.vkoop.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the auto-configuration of unused backends out of the context: unless
+ * {@code translate.client} is {@code ollama}, Spring AI and Bean Validation are
+ * excluded, so the DeepL path neither loads nor initialises them.
+ * <p>
+ * Runs after the configuration files are loaded, so it sees the client they select.
+ * Exclusions configured elsewhere are kept.
+ */
+public class ClientAutoConfigurationFilter implements EnvironmentPostProcessor, Ordered {
+
+    static final String PROPERTY_SOURCE_NAME = "translateClientAutoConfigurationFilter";
+    static final String EXCLUDE_PROPERTY = "spring.autoconfigure.exclude";
+
+    // Only what the Ollama client needs; class names that are not on the classpath are ignored
+    static final List<String> OLLAMA_AUTO_CONFIGURATIONS = List.of(
+            "org.springframework.ai.model.ollama.autoconfigure.OllamaApiAutoConfiguration",
+            "org.springframework.ai.model.ollama.autoconfigure.OllamaChatAutoConfiguration",
+            "org.springframework.ai.model.ollama.autoconfigure.OllamaEmbeddingAutoConfiguration",
+            "org.springframework.ai.model.chat.client.autoconfigure.ChatClientAutoConfiguration",
+            "org.springframework.ai.model.chat.memory.autoconfigure.ChatMemoryAutoConfiguration",
+            "org.springframework.ai.model.chat.observation.autoconfigure.ChatObservationAutoConfiguration",
+            "org.springframework.ai.model.embedding.observation.autoconfigure.EmbeddingObservationAutoConfiguration",
+            "org.springframework.ai.model.tool.autoconfigure.ToolCallingAutoConfiguration",
+            "org.springframework.ai.retry.autoconfigure.SpringAiRetryAutoConfiguration",
+            "org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration");
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if ("ollama".equals(environment.getProperty("translate.client"))) {
+            return;
+        }
+
+        List<String> excludes = new ArrayList<>();
+        String configured = environment.getProperty(EXCLUDE_PROPERTY);
+        if (configured != null && !configured.isBlank()) {
+            Arrays.stream(configured.split(","))
+                    .map(String::trim)
+                    .filter(exclude -> !exclude.isEmpty())
+                    .forEach(excludes::add);
+        }
+        excludes.addAll(OLLAMA_AUTO_CONFIGURATIONS);
+
+        environment.getPropertySources().addFirst(new MapPropertySource(PROPERTY_SOURCE_NAME,
+                Map.of(EXCLUDE_PROPERTY, String.join(",", excludes))));
+    }
+
+    @Override
+    public int getOrder() {
+        // After ConfigDataEnvironmentPostProcessor has read application.yml and application.properties
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,32 @@
+package de.vkoop.config;
+
+import de.vkoop.metrics.PrometheusFileExporter;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Collects metrics of the translation calls when {@code translate.metrics.file} is set, and writes
+ * them to that file in the Prometheus text format at the end of the run. Without it no registry
+ * exists and nothing is measured.
+ */
+@Configuration
+@ConditionalOnProperty("translate.metrics.file")
+public class MetricsConfiguration {
+
+    @Bean
+    public PrometheusMeterRegistry prometheusMeterRegistry() {
+        return new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    }
+
+    @Bean
+    public PrometheusFileExporter prometheusFileExporter(PrometheusMeterRegistry registry,
+            @Value("${translate.metrics.file}") String file) {
+        return new PrometheusFileExporter(registry, Path.of(file));
+    }
+}
@@ -0,0 +1,38 @@
+package de.vkoop.config;
+
+import de.vkoop.daemon.DaemonRequest;
+import de.vkoop.daemon.DaemonResponse;
+import de.vkoop.data.Response;
+import org.springframework.aot.hint.ExecutableMode;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+
+/**
+ * Metadata for the native image that Spring AOT cannot derive from the bean definitions.
+ * Beans, including the selected translate client, are covered by AOT processing and the
+ * Picocli commands by the reflection configuration picocli-codegen generates.
+ */
+@Configuration
+@ImportRuntimeHints(NativeImageConfiguration.Hints.class)
+// Read and written by Jackson through reflection
+@RegisterReflectionForBinding({Response.class, DaemonRequest.class, DaemonResponse.class})
+public class NativeImageConfiguration {
+
+    static class Hints implements RuntimeHintsRegistrar {
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Injected as Resource through @Value, which AOT does not follow
+            hints.resources().registerPattern("prompts/*.st");
+            // TranslationExecutor looks the Java 21 factory up reflectively
+            hints.reflection().registerType(TypeReference.of(Executors.class),
+                    type -> type.withMethod("newVirtualThreadPerTaskExecutor", List.of(), ExecutableMode.INVOKE));
+        }
+    }
+}
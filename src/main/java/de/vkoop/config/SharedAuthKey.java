@@ -0,0 +1,51 @@
+package de.vkoop.config;
+
+import de.vkoop.exceptions.AuthKeyConflictException;
+import de.vkoop.interfaces.TranslateClient;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * The auth key of the translation client, which every command of the process shares.
+ * <p>
+ * A CLI run sets it once. The daemon runs commands with different configurations at the same time,
+ * so it pins the key to the first one used and refuses commands with another key instead of swapping
+ * it under the commands that are running.
+ */
+@Component
+public class SharedAuthKey {
+
+    private final TranslateClient translateClient;
+    private String authKey;
+    private boolean used;
+    private boolean pinned;
+
+    public SharedAuthKey(TranslateClient translateClient) {
+        this.translateClient = translateClient;
+    }
+
+    /**
+     * Sets the key of the client
+     *
+     * @throws AuthKeyConflictException If the key is pinned to another one
+     */
+    public synchronized void use(String authKey) {
+        if (pinned && used) {
+            if (!Objects.equals(this.authKey, authKey)) {
+                throw new AuthKeyConflictException("The daemon translates with a different auth key");
+            }
+            return;
+        }
+        translateClient.setAuthKey(authKey);
+        this.authKey = authKey;
+        this.used = true;
+    }
+
+    /**
+     * Keeps the current key, or the next one used if none was set yet, for the lifetime of the process
+     */
+    public synchronized void pin() {
+        pinned = true;
+    }
+}
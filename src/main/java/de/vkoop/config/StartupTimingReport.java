@@ -0,0 +1,68 @@
+package de.vkoop.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Logs where the context startup went once it is refreshed, before the command runs.
+ * Enabled with {@code translate.startup-report=true}, e.g. {@code JAVA_OPTS=-Dtranslate.startup-report=true};
+ * needs the {@link BufferingApplicationStartup} installed by {@code AppStarter}.
+ */
+@Component
+public class StartupTimingReport implements ApplicationListener<ApplicationStartedEvent> {
+    private static final Logger logger = LoggerFactory.getLogger(StartupTimingReport.class);
+
+    static final int REPORTED_STEPS = 15;
+
+    private final boolean enabled;
+
+    public StartupTimingReport(@Value("${translate.startup-report:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationStartedEvent event) {
+        if (!enabled || !(event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+            return;
+        }
+
+        StartupTimeline timeline = startup.getBufferedTimeline();
+        logger.info("Context started in {} ms ({} startup steps recorded), slowest steps:{}",
+                Duration.between(timeline.getStartTime(), Instant.now()).toMillis(),
+                timeline.getEvents().size(),
+                format(timeline.getEvents()));
+    }
+
+    static String format(List<StartupTimeline.TimelineEvent> events) {
+        // Steps nest, so an outer step includes the time of its inner steps
+        return events.stream()
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(REPORTED_STEPS)
+                .map(event -> String.format("%n  %6d ms  %s%s",
+                        event.getDuration().toMillis(),
+                        event.getStartupStep().getName(),
+                        describe(event.getStartupStep().getTags())))
+                .collect(Collectors.joining());
+    }
+
+    private static String describe(StartupStep.Tags tags) {
+        String description = StreamSupport.stream(tags.spliterator(), false)
+                .map(tag -> tag.getKey() + "=" + tag.getValue())
+                .collect(Collectors.joining(", "));
+        return description.isEmpty() ? "" : " [" + description + "]";
+    }
+}
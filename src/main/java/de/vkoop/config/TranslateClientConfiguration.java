@@ -0,0 +1,87 @@
+package de.vkoop.config;
+
+import de.vkoop.cache.CachingTranslateClient;
+import de.vkoop.cache.TranslationMemory;
+import de.vkoop.cache.TranslationMemoryClient;
+import de.vkoop.clients.ConcurrencyLimitingTranslateClient;
+import de.vkoop.clients.DeeplTranslateClient;
+import de.vkoop.clients.OllamaTranslateClient;
+import de.vkoop.exceptions.ConfigurationException;
+import de.vkoop.interfaces.TranslateClient;
+import de.vkoop.metrics.MetricsTranslateClient;
+import de.vkoop.report.StatisticsTranslateClient;
+import de.vkoop.report.TranslationStatistics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Assembles the {@link TranslateClient} used by the commands: the client selected
+ * by {@code translate.client}, wrapped by the decorators that are enabled.
+ */
+@Configuration
+public class TranslateClientConfiguration {
+    private static final Logger logger = LoggerFactory.getLogger(TranslateClientConfiguration.class);
+
+    @Bean
+    @Primary
+    public TranslateClient translateClient(
+            ObjectProvider<DeeplTranslateClient> deeplClient,
+            ObjectProvider<OllamaTranslateClient> ollamaClient,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            TranslationStatistics statistics,
+            @Value("${translate.client:}") String clientName,
+            @Value("${spring.ai.ollama.chat.options.model:}") String ollamaModel,
+            @Value("${translate.memory.enabled:true}") boolean memoryEnabled,
+            @Value("${translate.memory.dir:${user.home}/.transcli/translation-memory}") String memoryDir,
+            @Value("${translate.memory.max-size:268435456}") long memoryMaxSize,
+            @Value("${translate.cache.enabled:true}") boolean cacheEnabled,
+            @Value("${translate.cache.max-entries:10000}") int cacheMaxEntries,
+            @Value("${translate.deepl.max-in-flight:8}") int deeplMaxInFlight,
+            @Value("${translate.ollama.max-in-flight:2}") int ollamaMaxInFlight) {
+        TranslateClient backend = deeplClient.getIfAvailable();
+        if (backend == null) {
+            backend = ollamaClient.getIfAvailable();
+        }
+        if (backend == null) {
+            throw new ConfigurationException("No translation client configured, set translate.client to deepl or ollama");
+        }
+        // Chosen from the backend itself, the decorators below the limit hide its type
+        int maxInFlight = backend instanceof DeeplTranslateClient ? deeplMaxInFlight : ollamaMaxInFlight;
+
+        // Counts what reaches the backend, for the run report
+        TranslateClient client = new StatisticsTranslateClient(backend, statistics);
+
+        // Below the concurrency limit, so the timers measure the backend and not the wait for a slot
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            client = new MetricsTranslateClient(client, registry, clientName);
+        }
+
+        // Innermost, so only requests that actually reach the backend take a slot
+        client = new ConcurrencyLimitingTranslateClient(client, maxInFlight);
+
+        if (memoryEnabled) {
+            String namespace = "ollama".equals(clientName) ? clientName + "/" + ollamaModel : clientName;
+            try {
+                client = new TranslationMemoryClient(client, new TranslationMemory(Path.of(memoryDir), memoryMaxSize), namespace);
+            } catch (IOException e) {
+                logger.warn("Translation memory at {} is unavailable, continuing without it: {}", memoryDir, e.getMessage());
+            }
+        }
+
+        // Outermost, so repeated strings are answered before the memory file is consulted
+        if (cacheEnabled) {
+            client = new CachingTranslateClient(client, cacheMaxEntries);
+        }
+        return client;
+    }
+}
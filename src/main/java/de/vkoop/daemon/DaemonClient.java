@@ -0,0 +1,121 @@
+package de.vkoop.daemon;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Thin client of the CLI: forwards a translate command line to a running daemon instead of
+ * starting the application. Used before Spring starts, so it only depends on the JDK and Jackson.
+ */
+public final class DaemonClient {
+
+    // Options whose values are paths; the daemon resolves relative paths against its own working directory
+    static final Set<String> PATH_OPTIONS = Set.of("-c", "--json-file", "--json-target-file", "--output-folder", "--lockfile", "--jfr", "--report");
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final DaemonEndpoint endpoint;
+    private final HttpClient httpClient;
+
+    public DaemonClient(DaemonEndpoint endpoint) {
+        this.endpoint = endpoint;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(1))
+                .build();
+    }
+
+    /**
+     * Runs the command line on the daemon published in the default endpoint file, if there is one.
+     * Only translate commands are forwarded; everything else, and every command line when no daemon
+     * answers, runs in this process.
+     *
+     * @return The exit code of the forwarded command, empty if it was not forwarded
+     */
+    public static Optional<Integer> forward(String[] args, PrintStream out, PrintStream err) {
+        if (args.length == 0 || !"translate".equals(args[0])) {
+            return Optional.empty();
+        }
+        return DaemonEndpoint.read(DaemonEndpoint.defaultFile())
+                .flatMap(endpoint -> new DaemonClient(endpoint).run(
+                        resolvePaths(args, Path.of("").toAbsolutePath())))
+                .map(response -> {
+                    out.print(response.out());
+                    out.flush();
+                    err.print(response.err());
+                    err.flush();
+                    return response.exitCode();
+                });
+    }
+
+    /**
+     * @return The result of the command, empty if the daemon could not be reached or rejected the request
+     */
+    public Optional<DaemonResponse> run(List<String> args) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + endpoint.port() + DaemonServer.RUN_PATH))
+                    .header("Authorization", "Bearer " + endpoint.token())
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(new DaemonRequest(args))))
+                    .build();
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                // E.g. a stale endpoint file whose port now belongs to another daemon
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(response.body(), DaemonResponse.class));
+        } catch (IOException e) {
+            // No daemon listening, the command runs locally
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Makes the path options of a translate command line absolute. A json command that writes next to the
+     * working directory gets that directory as explicit output folder, so the daemon writes to the same place.
+     */
+    static List<String> resolvePaths(String[] args, Path workingDirectory) {
+        List<String> resolved = new ArrayList<>(args.length + 2);
+        // The subcommand follows translate; a later "json" is an option value, e.g. of --text
+        boolean json = args.length > 1 && "json".equals(args[1]);
+        boolean outputLocation = false;
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            int equals = arg.indexOf('=');
+            String option = equals > 0 ? arg.substring(0, equals) : arg;
+            if (!PATH_OPTIONS.contains(option)) {
+                resolved.add(arg);
+                continue;
+            }
+
+            outputLocation |= option.equals("--output-folder") || option.equals("--json-target-file");
+            if (equals > 0) {
+                resolved.add(option + "=" + workingDirectory.resolve(arg.substring(equals + 1)));
+            } else {
+                resolved.add(arg);
+                if (i + 1 < args.length) {
+                    resolved.add(workingDirectory.resolve(args[++i]).toString());
+                }
+            }
+        }
+        if (json && !outputLocation) {
+            resolved.add("--output-folder");
+            resolved.add(workingDirectory.toString());
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,79 @@
+package de.vkoop.daemon;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Where a running daemon listens and the token its clients must present.
+ * The daemon publishes it in a file only its user can read; the CLI looks there for a daemon to forward to.
+ *
+ * @param port  The localhost port of the daemon
+ * @param token The bearer token expected on every request
+ */
+public record DaemonEndpoint(int port, String token) {
+
+    /**
+     * The endpoint file next to the user configuration, ~/.transcli/daemon.properties
+     */
+    public static Path defaultFile() {
+        return Path.of(System.getProperty("user.home"), ".transcli", "daemon.properties");
+    }
+
+    /**
+     * Reads the endpoint of a daemon, empty if there is no readable endpoint file
+     */
+    public static Optional<DaemonEndpoint> read(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+            return Optional.of(new DaemonEndpoint(
+                    Integer.parseInt(properties.getProperty("port")),
+                    properties.getProperty("token")));
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    public void write(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.deleteIfExists(temporaryFile);
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            // The token grants translations on the user's account, so only the user may read it
+            Files.createFile(temporaryFile, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        }
+
+        Properties properties = new Properties();
+        properties.setProperty("port", String.valueOf(port));
+        properties.setProperty("token", token);
+        try (OutputStream out = Files.newOutputStream(temporaryFile)) {
+            properties.store(out, "Endpoint of the running translation daemon");
+        }
+        try {
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Removes the endpoint file unless another daemon has replaced it in the meantime
+     */
+    public void deleteIfOwned(Path file) throws IOException {
+        if (read(file).filter(this::equals).isPresent()) {
+            Files.deleteIfExists(file);
+        }
+    }
+}
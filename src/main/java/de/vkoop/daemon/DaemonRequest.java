@@ -0,0 +1,11 @@
+package de.vkoop.daemon;
+
+import java.util.List;
+
+/**
+ * A command line forwarded to the daemon
+ *
+ * @param args The arguments, with relative paths already resolved by the client
+ */
+public record DaemonRequest(List<String> args) {
+}
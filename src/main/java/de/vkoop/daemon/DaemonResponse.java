@@ -0,0 +1,11 @@
+package de.vkoop.daemon;
+
+/**
+ * The result of a forwarded command line
+ *
+ * @param exitCode The exit code the command would have ended the CLI with
+ * @param out      What the command printed to standard output
+ * @param err      What the command printed to standard error
+ */
+public record DaemonResponse(int exitCode, String out, String err) {
+}
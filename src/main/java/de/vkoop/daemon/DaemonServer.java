@@ -0,0 +1,155 @@
+package de.vkoop.daemon;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serves forwarded command lines over HTTP on the loopback interface.
+ * <p>
+ * Every request is a POST of a {@link DaemonRequest} to {@value #RUN_PATH} with the endpoint token as
+ * bearer token; the answer is a {@link DaemonResponse}. Requests run concurrently on a small pool of
+ * daemon threads. A refused command line is answered with 409, so the client runs it itself.
+ */
+public class DaemonServer implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(DaemonServer.class);
+
+    public static final String RUN_PATH = "/run";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Executes one forwarded command line
+     */
+    @FunctionalInterface
+    public interface CommandRunner {
+        DaemonResponse run(List<String> args);
+    }
+
+    /**
+     * Thrown by a {@link CommandRunner} that refuses a command line before running it
+     */
+    public static class RejectedException extends RuntimeException {
+
+        public RejectedException(String message) {
+            super(message);
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final CommandRunner runner;
+    private final DaemonEndpoint endpoint;
+
+    /**
+     * @param port    The port to listen on, 0 picks a free one
+     * @param threads The number of requests served at the same time
+     */
+    public DaemonServer(int port, int threads, CommandRunner runner) throws IOException {
+        this.runner = runner;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.endpoint = new DaemonEndpoint(server.getAddress().getPort(), newToken());
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "daemon-request-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext(RUN_PATH, this::handle);
+    }
+
+    public DaemonEndpoint getEndpoint() {
+        return endpoint;
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                send(exchange, 405, "Only POST is supported");
+                return;
+            }
+            if (!isAuthorized(exchange.getRequestHeaders().getFirst("Authorization"))) {
+                send(exchange, 401, "Missing or wrong token");
+                return;
+            }
+
+            DaemonRequest request;
+            try {
+                request = objectMapper.readValue(exchange.getRequestBody(), DaemonRequest.class);
+            } catch (IOException e) {
+                send(exchange, 400, "Malformed request: " + e.getMessage());
+                return;
+            }
+
+            DaemonResponse response;
+            try {
+                response = runner.run(request.args() == null ? List.of() : request.args());
+            } catch (RejectedException e) {
+                logger.info("Refused forwarded command: {}", e.getMessage());
+                send(exchange, 409, "Refused: " + e.getMessage());
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Forwarded command failed: {}", e.getMessage(), e);
+                send(exchange, 500, "Command failed: " + e.getMessage());
+                return;
+            }
+
+            byte[] body = objectMapper.writeValueAsBytes(response);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private boolean isAuthorized(String authorization) {
+        byte[] expected = ("Bearer " + endpoint.token()).getBytes(StandardCharsets.UTF_8);
+        byte[] actual = authorization == null ? new byte[0] : authorization.getBytes(StandardCharsets.UTF_8);
+        // Constant time, the comparison must not reveal how much of the token was right
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+    private static void send(HttpExchange exchange, int status, String message) throws IOException {
+        byte[] body = message.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static String newToken() {
+        byte[] token = new byte[32];
+        new SecureRandom().nextBytes(token);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -15,4 +15,29 @@ public class Response {
         @JsonProperty("text")
         public String text;
     }
+
+    /**
+     * Creates a response carrying a single translation
+     */
+    public static Response of(String text, String detectedSourceLanguage) {
+        Response response = new Response();
+        Translation translation = new Translation();
+        translation.detectedSourceLanguage = detectedSourceLanguage;
+        translation.text = text;
+        response.translations = List.of(translation);
+        return response;
+    }
+
+    /**
+     * Returns the text of the first translation, or null if the response carries none
+     */
+    public static String firstText(Response response) {
+        return (
+                response != null &&
+                response.translations != null &&
+                !response.translations.isEmpty()
+        )
+                ? response.translations.get(0).text
+                : null;
+    }
 }
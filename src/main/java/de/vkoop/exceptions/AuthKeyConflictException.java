@@ -0,0 +1,12 @@
+package de.vkoop.exceptions;
+
+/**
+ * Exception thrown when a command of the daemon brings a different auth key than the one the daemon
+ * translates with. The client is shared by all commands, so the key cannot change while others run.
+ */
+public class AuthKeyConflictException extends ConfigurationException {
+
+    public AuthKeyConflictException(String message) {
+        super(message);
+    }
+}
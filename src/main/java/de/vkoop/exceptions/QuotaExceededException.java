@@ -0,0 +1,12 @@
+package de.vkoop.exceptions;
+
+/**
+ * Exception thrown when the translation API reports that the character quota of the account is used up.
+ * Unlike throttling this does not resolve by waiting, so no further requests are sent.
+ */
+public class QuotaExceededException extends TranslationException {
+
+    public QuotaExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,132 @@
+package de.vkoop.execution;
+
+import de.vkoop.exceptions.TranslationException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the translation jobs of the commands, e.g. one job per target language.
+ * <p>
+ * Jobs spend most of their time waiting for the translation API, so they run on a
+ * dedicated pool instead of the common fork/join pool, whose size follows the CPU
+ * count. On a Java 21 runtime the pool can be replaced by one virtual thread per job.
+ */
+@Component
+public class TranslationExecutor {
+    private static final Logger logger = LoggerFactory.getLogger(TranslationExecutor.class);
+
+    public static final int DEFAULT_THREADS = 8;
+
+    private final ExecutorService executorService;
+
+    public TranslationExecutor(
+            @Value("${translate.executor.threads:" + DEFAULT_THREADS + "}") int threads,
+            @Value("${translate.executor.virtual-threads:false}") boolean virtualThreads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be positive: " + threads);
+        }
+        ExecutorService virtualThreadExecutor = virtualThreads ? newVirtualThreadPerTaskExecutor() : null;
+        this.executorService = virtualThreadExecutor != null
+                ? virtualThreadExecutor
+                : Executors.newFixedThreadPool(threads, daemonThreadFactory());
+    }
+
+    /**
+     * Runs all tasks and returns their results in the order of {@code tasks}.
+     * <p>
+     * A task that throws stops the whole group: the tasks still running are cancelled
+     * and the exception is rethrown. Tasks that should not affect the others have to
+     * handle their failures themselves.
+     */
+    public <T> List<T> invokeAll(List<? extends Callable<T>> tasks) {
+        final ExecutorCompletionService<T> completionService = new ExecutorCompletionService<>(executorService);
+        final List<Future<T>> futures = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            futures.add(completionService.submit(task));
+        }
+
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                completionService.take().get();
+            }
+
+            final List<T> results = new ArrayList<>(futures.size());
+            for (Future<T> future : futures) {
+                // All tasks are done, so this does not block
+                results.add(future.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            cancelAll(futures);
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            cancelAll(futures);
+            Thread.currentThread().interrupt();
+            throw new TranslationException("Interrupted while waiting for translations", e);
+        }
+    }
+
+    private static void cancelAll(List<? extends Future<?>> futures) {
+        int cancelled = 0;
+        for (Future<?> future : futures) {
+            if (future.cancel(true)) {
+                cancelled++;
+            }
+        }
+        if (cancelled > 0) {
+            logger.warn("Cancelled {} outstanding translation jobs", cancelled);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable throwable) {
+        if (throwable instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (throwable instanceof Error error) {
+            throw error;
+        }
+        return new TranslationException("Translation job failed", throwable);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    private static ThreadFactory daemonThreadFactory() {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            // Daemon threads never keep the CLI alive after the command finished
+            Thread thread = new Thread(runnable, "translate-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Looks the factory up reflectively, the code base still targets Java 17
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            logger.warn("Virtual threads need Java 21 or newer, running on Java {} with a thread pool instead",
+                    Runtime.version().feature());
+            return null;
+        }
+    }
+}
@@ -2,7 +2,11 @@ package de.vkoop.interfaces;
 
 import de.vkoop.data.Response;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * Interface for translation services
@@ -18,7 +22,93 @@ public interface TranslateClient {
      * @return A Response object containing the translation, or null if translation failed
      */
     Response translate(String text, String sourceLanguage, String targetLanguage);
+
+    /**
+     * Translates several texts from source language to target language.
+     * Clients that support multi-text requests override this to save round trips;
+     * the default translates one text at a time.
+     *
+     * @param texts The texts to translate
+     * @param sourceLanguage The source language code
+     * @param targetLanguage The target language code
+     * @return The translations in the order of {@code texts}, with null for each text whose translation failed
+     */
+    default List<String> translateBatch(List<String> texts, String sourceLanguage, String targetLanguage) {
+        List<String> translations = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            translations.add(Response.firstText(translate(text, sourceLanguage, targetLanguage)));
+        }
+        return translations;
+    }
     
+    /**
+     * Translates text without blocking the calling thread.
+     * Clients with a non-blocking transport override this; the default translates
+     * on the calling thread and returns an already completed future.
+     *
+     * @param text The text to translate
+     * @param sourceLanguage The source language code
+     * @param targetLanguage The target language code
+     * @return A future of the Response, completing with null if translation failed
+     */
+    default CompletableFuture<Response> translateAsync(String text, String sourceLanguage, String targetLanguage) {
+        try {
+            return CompletableFuture.completedFuture(translate(text, sourceLanguage, targetLanguage));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Translates text without blocking and reports the translation piece by piece as it is produced.
+     * Clients that generate text incrementally override this; the default reports the complete
+     * translation as a single piece once it is available.
+     *
+     * @param text The text to translate
+     * @param sourceLanguage The source language code
+     * @param targetLanguage The target language code
+     * @param onPartial Receives each new piece of the translation, in order
+     * @return A future of the complete Response, completing with null if translation failed
+     */
+    default CompletableFuture<Response> translateStreaming(String text, String sourceLanguage, String targetLanguage,
+            Consumer<String> onPartial) {
+        return translateAsync(text, sourceLanguage, targetLanguage)
+                .thenApply(response -> {
+                    String translation = Response.firstText(response);
+                    if (translation != null) {
+                        onPartial.accept(translation);
+                    }
+                    return response;
+                });
+    }
+
+    /**
+     * Non-blocking variant of {@link #translateBatch(List, String, String)}
+     *
+     * @param texts The texts to translate
+     * @param sourceLanguage The source language code
+     * @param targetLanguage The target language code
+     * @return A future of the translations in the order of {@code texts}, with null for each failed text
+     */
+    default CompletableFuture<List<String>> translateBatchAsync(List<String> texts, String sourceLanguage, String targetLanguage) {
+        try {
+            return CompletableFuture.completedFuture(translateBatch(texts, sourceLanguage, targetLanguage));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+    
+    /**
+     * Prepares the backend for the first translation, e.g. loads a model into memory.
+     * Called at the start of a run so the preparation overlaps with reading the input;
+     * the default has nothing to prepare.
+     *
+     * @return A future completing once the backend is ready, never completing exceptionally
+     */
+    default CompletableFuture<Void> warmUp() {
+        return CompletableFuture.completedFuture(null);
+    }
+
     /**
      * Returns a set of supported source language codes
      * 
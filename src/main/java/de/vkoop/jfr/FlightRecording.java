@@ -0,0 +1,61 @@
+package de.vkoop.jfr;
+
+import de.vkoop.exceptions.ConfigurationException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+/**
+ * A Java Flight Recorder recording of one command run, written to a file when it is closed.
+ * <p>
+ * Uses the JDK {@code profile} settings, so the translation events can be read next to GC, allocation
+ * and thread activity in JDK Mission Control.
+ */
+public final class FlightRecording implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecording.class);
+
+    private final Recording recording;
+    private final Path file;
+
+    private FlightRecording(Recording recording, Path file) {
+        this.recording = recording;
+        this.file = file;
+    }
+
+    /**
+     * @param file The recording file, null to record nothing
+     */
+    public static FlightRecording start(Path file) {
+        if (file == null) {
+            return new FlightRecording(null, null);
+        }
+        try {
+            Recording recording = new Recording(Configuration.getConfiguration("profile"));
+            recording.setName("transcli");
+            recording.enable(TranslationRequestEvent.class);
+            recording.enable(PipelineStageEvent.class);
+            recording.setDestination(file);
+            recording.start();
+            logger.info("Flight recording started, writing to {}", file);
+            return new FlightRecording(recording, file);
+        } catch (IOException | ParseException | IllegalStateException e) {
+            throw new ConfigurationException("Could not start flight recording to " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (recording == null) {
+            return;
+        }
+        // Stopping writes the recording to its destination
+        recording.stop();
+        recording.close();
+        logger.info("Flight recording written to {}", file);
+    }
+}
@@ -0,0 +1,62 @@
+package de.vkoop.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One stage of the JSON pipeline: parsing the source, rendering a translated document or writing it.
+ */
+@Name("de.vkoop.PipelineStage")
+@Label("Pipeline Stage")
+@Category({"transcli", "Pipeline"})
+@Description("Parsing, transforming or writing a JSON document")
+@StackTrace(false)
+public class PipelineStageEvent extends Event {
+
+    public static final String PARSE = "parse";
+    public static final String TRANSFORM = "transform";
+    public static final String WRITE = "write";
+
+    @Label("Stage")
+    public String stage;
+
+    @Label("File")
+    public String file;
+
+    @Label("Target Language")
+    @Description("Language of the document, empty for the source")
+    public String targetLanguage;
+
+    @Label("Leaves")
+    @Description("Translatable leaves of the document, 0 if not known in this stage")
+    public int leaves;
+
+    @Label("Size")
+    @Description("Size of the file read or written")
+    @DataAmount
+    public long size;
+
+    public static PipelineStageEvent start(String stage, String file, String targetLanguage) {
+        PipelineStageEvent event = new PipelineStageEvent();
+        if (event.isEnabled()) {
+            event.stage = stage;
+            event.file = file;
+            event.targetLanguage = targetLanguage;
+            event.begin();
+        }
+        return event;
+    }
+
+    public void finish(int leaves, long size) {
+        if (isEnabled()) {
+            this.leaves = leaves;
+            this.size = size;
+            commit();
+        }
+    }
+}
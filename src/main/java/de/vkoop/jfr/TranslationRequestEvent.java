@@ -0,0 +1,77 @@
+package de.vkoop.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.List;
+
+/**
+ * One request to the translation backend, from sending it to the final response, retries included.
+ * <p>
+ * Created with {@link #start}, which only fills the event while a recording is running, told about
+ * every HTTP response with {@link #response} and committed with {@link #finish}.
+ */
+@Name("de.vkoop.TranslationRequest")
+@Label("Translation Request")
+@Category({"transcli", "Translation"})
+@Description("A request to the translation backend, including retries")
+@StackTrace(false)
+public class TranslationRequestEvent extends Event {
+
+    @Label("Client")
+    public String client;
+
+    @Label("Source Language")
+    public String sourceLanguage;
+
+    @Label("Target Language")
+    public String targetLanguage;
+
+    @Label("Texts")
+    public int texts;
+
+    @Label("Text Length")
+    @Description("Characters of all texts of the request")
+    public int textLength;
+
+    @Label("HTTP Status")
+    @Description("Status of the last response, 0 if there was none")
+    public int httpStatus;
+
+    @Label("Attempts")
+    @Description("Responses received, more than one if the request was retried")
+    public int attempts;
+
+    public static TranslationRequestEvent start(String client, String sourceLanguage, String targetLanguage,
+            List<String> texts) {
+        TranslationRequestEvent event = new TranslationRequestEvent();
+        if (event.isEnabled()) {
+            event.client = client;
+            event.sourceLanguage = sourceLanguage;
+            event.targetLanguage = targetLanguage;
+            event.texts = texts.size();
+            for (String text : texts) {
+                event.textLength += text == null ? 0 : text.length();
+            }
+            event.begin();
+        }
+        return event;
+    }
+
+    public static TranslationRequestEvent start(String client, String sourceLanguage, String targetLanguage, String text) {
+        return start(client, sourceLanguage, targetLanguage, List.of(text));
+    }
+
+    public void response(int httpStatus) {
+        this.httpStatus = httpStatus;
+        attempts++;
+    }
+
+    public void finish() {
+        commit();
+    }
+}
@@ -0,0 +1,167 @@
+package de.vkoop.metrics;
+
+import de.vkoop.clients.ForwardingTranslateClient;
+import de.vkoop.data.Response;
+import de.vkoop.interfaces.TranslateClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Times every call of the wrapped client by client, target language, call type and outcome,
+ * counts the characters sent and reports the most calls in flight at the same time as a gauge.
+ * The peak is kept because the metrics are written once at the end, when no call is in flight.
+ * <p>
+ * The outcome is {@code success}, {@code empty} for a null or blank result (which is how the DeepL
+ * client reports error statuses it does not retry) or {@code error} if the call failed, e.g. with an
+ * HTTP error status after all retries.
+ */
+public class MetricsTranslateClient extends ForwardingTranslateClient {
+
+    public static final String CALLS = "transcli.translate.calls";
+    public static final String CHARACTERS = "transcli.translate.characters";
+    public static final String PEAK_IN_FLIGHT = "transcli.translate.in.flight.peak";
+
+    static final String SUCCESS = "success";
+    static final String EMPTY = "empty";
+    static final String ERROR = "error";
+
+    private final MeterRegistry registry;
+    private final String clientName;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    /**
+     * @param clientName The {@code client} tag of all meters, e.g. deepl
+     */
+    public MetricsTranslateClient(TranslateClient delegate, MeterRegistry registry, String clientName) {
+        super(delegate);
+        this.registry = registry;
+        this.clientName = clientName;
+        registry.gauge(PEAK_IN_FLIGHT, Tags.of("client", clientName), peakInFlight);
+    }
+
+    @Override
+    public Response translate(String text, String sourceLanguage, String targetLanguage) {
+        countCharacters(targetLanguage, text);
+        return timed("single", targetLanguage, MetricsTranslateClient::outcome,
+                () -> delegate.translate(text, sourceLanguage, targetLanguage));
+    }
+
+    @Override
+    public List<String> translateBatch(List<String> texts, String sourceLanguage, String targetLanguage) {
+        countCharacters(targetLanguage, texts);
+        return timed("batch", targetLanguage, MetricsTranslateClient::batchOutcome,
+                () -> delegate.translateBatch(texts, sourceLanguage, targetLanguage));
+    }
+
+    @Override
+    public CompletableFuture<Response> translateAsync(String text, String sourceLanguage, String targetLanguage) {
+        countCharacters(targetLanguage, text);
+        return timedAsync("single", targetLanguage, MetricsTranslateClient::outcome,
+                () -> delegate.translateAsync(text, sourceLanguage, targetLanguage));
+    }
+
+    @Override
+    public CompletableFuture<Response> translateStreaming(String text, String sourceLanguage, String targetLanguage,
+            Consumer<String> onPartial) {
+        countCharacters(targetLanguage, text);
+        return timedAsync("streaming", targetLanguage, MetricsTranslateClient::outcome,
+                () -> delegate.translateStreaming(text, sourceLanguage, targetLanguage, onPartial));
+    }
+
+    @Override
+    public CompletableFuture<List<String>> translateBatchAsync(List<String> texts, String sourceLanguage, String targetLanguage) {
+        countCharacters(targetLanguage, texts);
+        return timedAsync("batch", targetLanguage, MetricsTranslateClient::batchOutcome,
+                () -> delegate.translateBatchAsync(texts, sourceLanguage, targetLanguage));
+    }
+
+    private <T> T timed(String call, String targetLanguage, Function<T, String> outcome, Supplier<T> translation) {
+        long start = start();
+        T result;
+        try {
+            result = translation.get();
+        } catch (RuntimeException e) {
+            stop(call, targetLanguage, start, ERROR);
+            throw e;
+        }
+        stop(call, targetLanguage, start, outcome.apply(result));
+        return result;
+    }
+
+    private <T> CompletableFuture<T> timedAsync(String call, String targetLanguage, Function<T, String> outcome,
+            Supplier<CompletableFuture<T>> translation) {
+        long start = start();
+        CompletableFuture<T> future;
+        try {
+            future = translation.get();
+        } catch (RuntimeException e) {
+            stop(call, targetLanguage, start, ERROR);
+            throw e;
+        }
+        return propagateCancellation(future.whenComplete((result, failure) ->
+                stop(call, targetLanguage, start, failure != null ? ERROR : outcome.apply(result))), future);
+    }
+
+    private long start() {
+        peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        return System.nanoTime();
+    }
+
+    private void stop(String call, String targetLanguage, long start, String outcome) {
+        long duration = System.nanoTime() - start;
+        inFlight.decrementAndGet();
+        Timer.builder(CALLS)
+                .description("Calls of the translation backend")
+                .tag("client", clientName)
+                .tag("target_language", targetLanguage)
+                .tag("call", call)
+                .tag("outcome", outcome)
+                .register(registry)
+                .record(duration, TimeUnit.NANOSECONDS);
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void countCharacters(String targetLanguage, String text) {
+        if (text != null) {
+            registry.counter(CHARACTERS, "client", clientName, "target_language", targetLanguage).increment(text.length());
+        }
+    }
+
+    private void countCharacters(String targetLanguage, List<String> texts) {
+        long characters = 0;
+        for (String text : texts) {
+            characters += text == null ? 0 : text.length();
+        }
+        registry.counter(CHARACTERS, "client", clientName, "target_language", targetLanguage).increment(characters);
+    }
+
+    static String outcome(Response response) {
+        String text = Response.firstText(response);
+        return text == null || text.isBlank() ? EMPTY : SUCCESS;
+    }
+
+    static String batchOutcome(List<String> translations) {
+        if (translations == null || translations.isEmpty()) {
+            return EMPTY;
+        }
+        for (String translation : translations) {
+            if (translation == null || translation.isBlank()) {
+                return EMPTY;
+            }
+        }
+        return SUCCESS;
+    }
+}
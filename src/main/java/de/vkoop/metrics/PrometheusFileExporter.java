@@ -0,0 +1,53 @@
+package de.vkoop.metrics;
+
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextClosedEvent;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Writes all metrics in the Prometheus text format when the application context closes, i.e. at the
+ * end of a CLI run. The file is replaced atomically, so the textfile collector of the node exporter
+ * never reads a partial file.
+ */
+public class PrometheusFileExporter implements ApplicationListener<ContextClosedEvent> {
+    private static final Logger logger = LoggerFactory.getLogger(PrometheusFileExporter.class);
+
+    private final PrometheusMeterRegistry registry;
+    private final Path file;
+
+    public PrometheusFileExporter(PrometheusMeterRegistry registry, Path file) {
+        this.registry = registry;
+        this.file = file;
+    }
+
+    @Override
+    public void onApplicationEvent(ContextClosedEvent event) {
+        try {
+            export();
+        } catch (IOException e) {
+            // Metrics must not change the outcome of the run
+            logger.warn("Could not write metrics to {}: {}", file, e.getMessage());
+        }
+    }
+
+    public void export() throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            Files.writeString(temporaryFile, registry.scrape(), StandardCharsets.UTF_8);
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+        logger.debug("Metrics written to {}", file);
+    }
+}
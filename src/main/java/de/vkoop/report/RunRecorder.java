@@ -0,0 +1,161 @@
+package de.vkoop.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the timings and counters of one run for its {@link RunReport}. Languages are recorded
+ * from the threads that translate them.
+ * <p>
+ * The counters come from the shared {@link TranslationStatistics}, so runs of a daemon that translate
+ * the same language at the same time count each other's requests.
+ */
+public class RunRecorder {
+
+    static final String SUCCESS = "success";
+    static final String PARTIAL = "partial";
+    static final String FAILED = "failed";
+    // Not started, e.g. because the quota was exhausted before
+    static final String SKIPPED = "skipped";
+
+    private static final ObjectWriter REPORT_WRITER = new ObjectMapper().writerWithDefaultPrettyPrinter();
+
+    private final TranslationStatistics statistics;
+    private final String sourceLanguage;
+    private final List<String> targetLanguages;
+    private final Instant startedAt = Instant.now();
+    private final long start = System.nanoTime();
+    private final LongAdder parseNanos = new LongAdder();
+    private final LongAdder writeNanos = new LongAdder();
+    private final ConcurrentMap<String, Language> languages = new ConcurrentHashMap<>();
+
+    public RunRecorder(TranslationStatistics statistics, String sourceLanguage, List<String> targetLanguages) {
+        this.statistics = statistics;
+        this.sourceLanguage = sourceLanguage;
+        this.targetLanguages = List.copyOf(targetLanguages);
+        statistics.resetPeakInFlight();
+    }
+
+    public void parsed(long nanos) {
+        parseNanos.add(nanos);
+    }
+
+    public void languageStarted(String targetLanguage) {
+        languages.put(targetLanguage, new Language(statistics.snapshot(targetLanguage)));
+    }
+
+    /**
+     * @param nanos Time spent writing, 0 if writing is interleaved with the translation
+     */
+    public void written(String targetLanguage, long bytes, long nanos) {
+        writeNanos.add(nanos);
+        Language language = languages.get(targetLanguage);
+        if (language != null) {
+            language.outputBytes.add(bytes);
+        }
+    }
+
+    public void languageFinished(String targetLanguage, boolean success) {
+        Language language = languages.get(targetLanguage);
+        if (language != null) {
+            language.finish(statistics.snapshot(targetLanguage), success);
+        }
+    }
+
+    public RunReport report() {
+        long wallNanos = System.nanoTime() - start;
+        Map<String, RunReport.LanguageReport> languageReports = new LinkedHashMap<>();
+        long leaves = 0;
+        int successes = 0;
+        for (String targetLanguage : targetLanguages) {
+            Language language = languages.get(targetLanguage);
+            RunReport.LanguageReport languageReport = language != null
+                    ? language.report(statistics.snapshot(targetLanguage))
+                    : new RunReport.LanguageReport(SKIPPED, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+            languageReports.put(targetLanguage, languageReport);
+            leaves += languageReport.leaves();
+            if (SUCCESS.equals(languageReport.status())) {
+                successes++;
+            }
+        }
+
+        String status = successes == targetLanguages.size() ? SUCCESS : successes > 0 ? PARTIAL : FAILED;
+        return new RunReport(
+                sourceLanguage,
+                startedAt.toString(),
+                status,
+                TimeUnit.NANOSECONDS.toMillis(wallNanos),
+                TimeUnit.NANOSECONDS.toMillis(parseNanos.sum()),
+                TimeUnit.NANOSECONDS.toMillis(writeNanos.sum()),
+                statistics.peakInFlight(),
+                leaves,
+                perSecond(leaves, wallNanos),
+                languageReports);
+    }
+
+    /**
+     * Writes the report of the run so far, creating the parent directories
+     */
+    public void write(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        REPORT_WRITER.writeValue(path.toFile(), report());
+    }
+
+    private static double perSecond(long count, long nanos) {
+        return nanos <= 0 ? 0.0 : count * 1e9 / nanos;
+    }
+
+    private static final class Language {
+        private final TranslationStatistics.Snapshot before;
+        private final long start = System.nanoTime();
+        private final LongAdder outputBytes = new LongAdder();
+        private volatile TranslationStatistics.Snapshot after;
+        private volatile long end;
+        private volatile String status;
+
+        private Language(TranslationStatistics.Snapshot before) {
+            this.before = before;
+        }
+
+        private void finish(TranslationStatistics.Snapshot after, boolean success) {
+            this.end = System.nanoTime();
+            this.after = after;
+            this.status = success ? SUCCESS : FAILED;
+        }
+
+        /**
+         * @param now The current counters, for a language that is still running when the report is written
+         */
+        private RunReport.LanguageReport report(TranslationStatistics.Snapshot now) {
+            String finishedStatus = status;
+            TranslationStatistics.Snapshot counts = (finishedStatus != null ? after : now).minus(before);
+            long wallNanos = (finishedStatus != null ? end : System.nanoTime()) - start;
+            return new RunReport.LanguageReport(
+                    finishedStatus != null ? finishedStatus : FAILED,
+                    TimeUnit.NANOSECONDS.toMillis(wallNanos),
+                    counts.leaves(),
+                    counts.requests(),
+                    counts.characters(),
+                    counts.cacheHits(),
+                    counts.retries(),
+                    counts.emptyResults(),
+                    outputBytes.sum(),
+                    perSecond(counts.leaves(), wallNanos));
+        }
+    }
+}
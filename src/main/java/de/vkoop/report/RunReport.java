@@ -0,0 +1,49 @@
+package de.vkoop.report;
+
+import java.util.Map;
+
+/**
+ * Performance report of one {@code translate json} run, written as JSON with {@code --report}.
+ * Times are in milliseconds.
+ *
+ * @param status          {@code success}, {@code partial} if some languages failed, or {@code failed}
+ * @param parseTimeMs     Time spent parsing the source files
+ * @param writeTimeMs     Time spent writing the output files, summed over all languages
+ * @param peakConcurrency The most backend requests in flight at the same time
+ * @param languages       The report of each target language, in the order of the target languages
+ */
+public record RunReport(
+        String sourceLanguage,
+        String startedAt,
+        String status,
+        long wallTimeMs,
+        long parseTimeMs,
+        long writeTimeMs,
+        int peakConcurrency,
+        long leaves,
+        double leavesPerSecond,
+        Map<String, LanguageReport> languages) {
+
+    /**
+     * @param wallTimeMs     Time from the start of the language job until its last file was written
+     * @param leaves         JSON leaves of the source files
+     * @param requests       Calls of the translation backend; DeepL splits them further into chunks of 50 texts
+     * @param charactersSent Characters sent to the backend
+     * @param cacheHits      Texts answered by the cache or the translation memory without the backend
+     * @param retries        Requests the backend repeated, e.g. after 429 responses
+     * @param emptyResults   Texts that came back without a translation, including those of failed requests
+     * @param outputBytes    Size of the files written
+     */
+    public record LanguageReport(
+            String status,
+            long wallTimeMs,
+            long leaves,
+            long requests,
+            long charactersSent,
+            long cacheHits,
+            long retries,
+            long emptyResults,
+            long outputBytes,
+            double leavesPerSecond) {
+    }
+}
@@ -0,0 +1,119 @@
+package de.vkoop.report;
+
+import de.vkoop.clients.ForwardingTranslateClient;
+import de.vkoop.data.Response;
+import de.vkoop.interfaces.TranslateClient;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Counts the calls of the wrapped client, the texts and characters sent and the texts that came back
+ * without a translation in {@link TranslationStatistics}, and tracks the calls in flight.
+ */
+public class StatisticsTranslateClient extends ForwardingTranslateClient {
+
+    private final TranslationStatistics statistics;
+
+    public StatisticsTranslateClient(TranslateClient delegate, TranslationStatistics statistics) {
+        super(delegate);
+        this.statistics = statistics;
+    }
+
+    @Override
+    public Response translate(String text, String sourceLanguage, String targetLanguage) {
+        statistics.requestStarted(targetLanguage, 1, length(text));
+        Response response = null;
+        try {
+            response = delegate.translate(text, sourceLanguage, targetLanguage);
+            return response;
+        } finally {
+            statistics.requestFinished(targetLanguage, emptyResults(response));
+        }
+    }
+
+    @Override
+    public List<String> translateBatch(List<String> texts, String sourceLanguage, String targetLanguage) {
+        statistics.requestStarted(targetLanguage, texts.size(), length(texts));
+        List<String> translations = null;
+        try {
+            translations = delegate.translateBatch(texts, sourceLanguage, targetLanguage);
+            return translations;
+        } finally {
+            statistics.requestFinished(targetLanguage, emptyResults(translations, texts.size()));
+        }
+    }
+
+    @Override
+    public CompletableFuture<Response> translateAsync(String text, String sourceLanguage, String targetLanguage) {
+        statistics.requestStarted(targetLanguage, 1, length(text));
+        return call(targetLanguage, 1, StatisticsTranslateClient::emptyResults,
+                () -> delegate.translateAsync(text, sourceLanguage, targetLanguage));
+    }
+
+    @Override
+    public CompletableFuture<Response> translateStreaming(String text, String sourceLanguage, String targetLanguage,
+            Consumer<String> onPartial) {
+        statistics.requestStarted(targetLanguage, 1, length(text));
+        return call(targetLanguage, 1, StatisticsTranslateClient::emptyResults,
+                () -> delegate.translateStreaming(text, sourceLanguage, targetLanguage, onPartial));
+    }
+
+    @Override
+    public CompletableFuture<List<String>> translateBatchAsync(List<String> texts, String sourceLanguage, String targetLanguage) {
+        statistics.requestStarted(targetLanguage, texts.size(), length(texts));
+        return call(targetLanguage, texts.size(), translations -> emptyResults(translations, texts.size()),
+                () -> delegate.translateBatchAsync(texts, sourceLanguage, targetLanguage));
+    }
+
+    /**
+     * Finishes the request when the future completes, or right away if the delegate throws
+     *
+     * @param emptyResults The texts without a translation in a result, which is null if the call failed
+     */
+    private <T> CompletableFuture<T> call(String targetLanguage, int texts, ToLongFunction<T> emptyResults,
+            Supplier<CompletableFuture<T>> translation) {
+        CompletableFuture<T> future;
+        try {
+            future = translation.get();
+        } catch (RuntimeException e) {
+            statistics.requestFinished(targetLanguage, texts);
+            throw e;
+        }
+        return propagateCancellation(future.whenComplete((result, failure) ->
+                statistics.requestFinished(targetLanguage, emptyResults.applyAsLong(result))), future);
+    }
+
+    private static long length(String text) {
+        return text == null ? 0 : text.length();
+    }
+
+    private static long length(List<String> texts) {
+        long characters = 0;
+        for (String text : texts) {
+            characters += length(text);
+        }
+        return characters;
+    }
+
+    static long emptyResults(Response response) {
+        String text = Response.firstText(response);
+        return text == null || text.isBlank() ? 1 : 0;
+    }
+
+    static long emptyResults(List<String> translations, int texts) {
+        if (translations == null) {
+            return texts;
+        }
+        long empty = Math.max(0, texts - translations.size());
+        for (String translation : translations) {
+            if (translation == null || translation.isBlank()) {
+                empty++;
+            }
+        }
+        return empty;
+    }
+}
@@ -0,0 +1,125 @@
+package de.vkoop.report;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the translation work per target language, from the JSON leaves down to the requests
+ * of the backend. They add up over the lifetime of the application; a run report takes a
+ * {@link #snapshot(String)} before and after each language and reports the difference.
+ */
+@Component
+public class TranslationStatistics {
+
+    private final ConcurrentMap<String, Counters> languages = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    /**
+     * JSON leaves processed
+     */
+    public void leaves(String targetLanguage, long leaves) {
+        counters(targetLanguage).leaves.add(leaves);
+    }
+
+    /**
+     * Texts handed to the client, before the cache and the translation memory answer them
+     */
+    public void texts(String targetLanguage, long texts) {
+        counters(targetLanguage).texts.add(texts);
+    }
+
+    /**
+     * A call of the backend started
+     */
+    public void requestStarted(String targetLanguage, long texts, long characters) {
+        Counters counters = counters(targetLanguage);
+        counters.requests.increment();
+        counters.textsSent.add(texts);
+        counters.characters.add(characters);
+        peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+    }
+
+    /**
+     * A call of the backend finished
+     *
+     * @param emptyResults Texts without a translation, including all texts of a failed call
+     */
+    public void requestFinished(String targetLanguage, long emptyResults) {
+        inFlight.decrementAndGet();
+        counters(targetLanguage).emptyResults.add(emptyResults);
+    }
+
+    /**
+     * Requests the backend repeated, e.g. after a 429 response
+     */
+    public void retries(String targetLanguage, long retries) {
+        counters(targetLanguage).retries.add(retries);
+    }
+
+    public Snapshot snapshot(String targetLanguage) {
+        Counters counters = counters(targetLanguage);
+        return new Snapshot(
+                counters.leaves.sum(),
+                counters.texts.sum(),
+                counters.requests.sum(),
+                counters.textsSent.sum(),
+                counters.characters.sum(),
+                counters.retries.sum(),
+                counters.emptyResults.sum());
+    }
+
+    /**
+     * @return The most backend calls in flight at the same time since the last {@link #resetPeakInFlight()}
+     */
+    public int peakInFlight() {
+        return peakInFlight.get();
+    }
+
+    public void resetPeakInFlight() {
+        peakInFlight.set(inFlight.get());
+    }
+
+    private Counters counters(String targetLanguage) {
+        return languages.computeIfAbsent(targetLanguage, ignored -> new Counters());
+    }
+
+    private static final class Counters {
+        private final LongAdder leaves = new LongAdder();
+        private final LongAdder texts = new LongAdder();
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder textsSent = new LongAdder();
+        private final LongAdder characters = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder emptyResults = new LongAdder();
+    }
+
+    /**
+     * Counters of one target language at a point in time
+     */
+    public record Snapshot(long leaves, long texts, long requests, long textsSent, long characters,
+            long retries, long emptyResults) {
+
+        public Snapshot minus(Snapshot earlier) {
+            return new Snapshot(
+                    leaves - earlier.leaves,
+                    texts - earlier.texts,
+                    requests - earlier.requests,
+                    textsSent - earlier.textsSent,
+                    characters - earlier.characters,
+                    retries - earlier.retries,
+                    emptyResults - earlier.emptyResults);
+        }
+
+        /**
+         * Texts the cache or the translation memory answered without the backend
+         */
+        public long cacheHits() {
+            return Math.max(0, texts - textsSent);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -38,7 +39,8 @@ public class CommandIntegrationTest {
     @TempDir
     Path tempDir;
 
-    @Mock
+    // Real default methods let batch calls fall through to the stubbed translate()
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private TranslateClient translateClient;
 
     private final ByteArrayOutputStream outContent =
@@ -0,0 +1,86 @@
+package de.vkoop;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JsonTemplateTest {
+
+    @Test
+    void of_shouldCollectDistinctNonBlankTextsInDocumentOrder() {
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("save", "Speichern");
+        nested.put("cancel", "Abbrechen");
+        Map<String, Object> source = new LinkedHashMap<>();
+        source.put("save", "Speichern");
+        source.put("empty", " ");
+        source.put("dialog", nested);
+
+        JsonTemplate template = JsonTemplate.of(source);
+
+        assertEquals(List.of("Speichern", "Abbrechen"), template.getTexts());
+    }
+
+    @Test
+    void of_shouldKeyLeavesByEscapedJsonPointer() {
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("a/b", "Eins");
+        nested.put("c~d", Map.of("e", "Zwei"));
+        Map<String, Object> source = new LinkedHashMap<>();
+        source.put("dialog", nested);
+        source.put("title", "Drei");
+
+        JsonTemplate template = JsonTemplate.of(source);
+
+        assertEquals(List.of("/dialog/a~1b", "/dialog/c~0d/e", "/title"), List.copyOf(template.getLeaves().keySet()));
+        assertEquals(template.getLeaves(), JsonTemplate.stringValues(source));
+    }
+
+    @Test
+    void render_shouldFillEveryPathFromTheTranslations() {
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("save", "Speichern");
+        nested.put("cancel", "Abbrechen");
+        Map<String, Object> source = new LinkedHashMap<>();
+        source.put("save", "Speichern");
+        source.put("empty", " ");
+        source.put("dialog", nested);
+        JsonTemplate template = JsonTemplate.of(source);
+
+        Map<String, Object> result = template.render(Arrays.asList("Save", null));
+
+        assertEquals("Save", result.get("save"));
+        assertEquals(" ", result.get("empty"));
+        Map<String, Object> dialog = (Map<String, Object>) result.get("dialog");
+        assertEquals("Save", dialog.get("save"));
+        assertEquals("", dialog.get("cancel"));
+    }
+
+    @Test
+    void render_shouldNotShareStateBetweenLanguages() {
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("key", "Wert");
+        JsonTemplate template = JsonTemplate.of(Map.of("nested", nested));
+
+        Map<String, Object> english = template.render(List.of("Value"));
+        ((Map<String, Object>) english.get("nested")).put("key", "changed");
+        Map<String, Object> french = template.render(List.of("Valeur"));
+
+        assertEquals("Valeur", ((Map<String, Object>) french.get("nested")).get("key"));
+        assertFalse(english.get("nested") == french.get("nested"));
+    }
+
+    @Test
+    void render_shouldRejectTranslationsOfAnotherTemplate() {
+        JsonTemplate template = JsonTemplate.of(Map.of("key", "Wert"));
+
+        assertThrows(IllegalArgumentException.class, () -> template.render(List.of()));
+    }
+}
@@ -1,23 +1,38 @@
 package de.vkoop;
 
 import de.vkoop.data.Response;
+import de.vkoop.exceptions.TranslationException;
 import de.vkoop.interfaces.TranslateClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,7 +41,8 @@ public class JsonTranslatorTest {
     private static final String SOURCE_LANGUAGE = "DE";
     private static final String TARGET_LANGUAGE = "EN";
 
-    @Mock
+    // Real default methods let batch calls fall through to the stubbed translate()
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private TranslateClient translateClient;
 
     private JsonTranslator jsonTranslator;
@@ -123,6 +139,267 @@ public class JsonTranslatorTest {
         assertEquals("", result.get("key1"));
     }
 
+    @Test
+    void translateJsonFile_shouldSendLeavesInBatches() throws IOException {
+        // Arrange
+        String jsonContent =
+            "{\"key1\":\"value1\",\"key2\":\"value2\",\"nested\":{\"key3\":\"value3\"}}";
+        Path jsonFile = createTempJsonFile(jsonContent);
+        jsonTranslator.setBatchSize(2);
+
+        when(
+            translateClient.translateBatch(
+                anyList(),
+                eq(SOURCE_LANGUAGE),
+                eq(TARGET_LANGUAGE)
+            )
+        ).thenAnswer(invocation -> {
+            List<String> texts = invocation.getArgument(0);
+            return texts.stream().map(String::toUpperCase).toList();
+        });
+
+        // Act
+        Map<String, Object> result = jsonTranslator.translateJsonFile(
+            jsonFile.toString(),
+            SOURCE_LANGUAGE,
+            TARGET_LANGUAGE
+        );
+
+        // Assert
+        verify(translateClient, times(2)).translateBatch(
+            anyList(),
+            eq(SOURCE_LANGUAGE),
+            eq(TARGET_LANGUAGE)
+        );
+        assertEquals("VALUE1", result.get("key1"));
+        assertEquals("VALUE2", result.get("key2"));
+        Map<String, Object> nestedResult = (Map<String, Object>) result.get(
+            "nested"
+        );
+        assertEquals("VALUE3", nestedResult.get("key3"));
+    }
+
+    @Test
+    void translateJsonFile_shouldReassembleConcurrentBatchesInOrder() throws IOException {
+        // Arrange
+        String jsonContent =
+            "{\"key1\":\"value1\",\"key2\":\"value2\",\"nested\":{\"key3\":\"value3\"}}";
+        Path jsonFile = createTempJsonFile(jsonContent);
+        jsonTranslator.setBatchSize(1);
+
+        // Earlier batches complete later
+        when(
+            translateClient.translateBatchAsync(
+                anyList(),
+                eq(SOURCE_LANGUAGE),
+                eq(TARGET_LANGUAGE)
+            )
+        ).thenAnswer(invocation -> {
+            List<String> texts = invocation.getArgument(0);
+            long delay = 40 - 10L * Integer.parseInt(texts.get(0).substring(5));
+            return CompletableFuture.supplyAsync(
+                () -> texts.stream().map(String::toUpperCase).toList(),
+                CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS)
+            );
+        });
+
+        // Act
+        Map<String, Object> result = jsonTranslator.translateJsonFile(
+            jsonFile.toString(),
+            SOURCE_LANGUAGE,
+            TARGET_LANGUAGE
+        );
+
+        // Assert
+        verify(translateClient, times(3)).translateBatchAsync(
+            anyList(),
+            eq(SOURCE_LANGUAGE),
+            eq(TARGET_LANGUAGE)
+        );
+        assertEquals("VALUE1", result.get("key1"));
+        assertEquals("VALUE2", result.get("key2"));
+        Map<String, Object> nestedResult = (Map<String, Object>) result.get(
+            "nested"
+        );
+        assertEquals("VALUE3", nestedResult.get("key3"));
+    }
+
+    @Test
+    void translateJsonFile_shouldCancelBatchesWhenInterrupted() throws Exception {
+        // Arrange
+        Path jsonFile = createTempJsonFile("{\"key1\":\"value1\",\"key2\":\"value2\"}");
+        jsonTranslator.setBatchSize(1);
+        CompletableFuture<List<String>> first = new CompletableFuture<>();
+        CompletableFuture<List<String>> second = new CompletableFuture<>();
+        when(translateClient.translateBatchAsync(List.of("value1"), SOURCE_LANGUAGE, TARGET_LANGUAGE)).thenReturn(first);
+        when(translateClient.translateBatchAsync(List.of("value2"), SOURCE_LANGUAGE, TARGET_LANGUAGE)).thenReturn(second);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread languageJob = new Thread(() -> {
+            try {
+                jsonTranslator.translateJsonFile(jsonFile.toString(), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+
+        // Act: cancelled like a sibling language job after a fatal error
+        languageJob.start();
+        verify(translateClient, timeout(5000).times(2)).translateBatchAsync(anyList(), eq(SOURCE_LANGUAGE), eq(TARGET_LANGUAGE));
+        languageJob.interrupt();
+        languageJob.join(5000);
+
+        // Assert
+        assertFalse(languageJob.isAlive());
+        assertInstanceOf(TranslationException.class, failure.get());
+        assertTrue(first.isCancelled());
+        assertTrue(second.isCancelled());
+    }
+
+    @Test
+    void translateJsonFile_shouldKeepBlankValuesWithoutTranslating() throws IOException {
+        // Arrange
+        String jsonContent = "{\"key1\":\"value1\",\"key2\":\" \"}";
+        Path jsonFile = createTempJsonFile(jsonContent);
+
+        when(
+            translateClient.translateBatch(
+                eq(List.of("value1")),
+                eq(SOURCE_LANGUAGE),
+                eq(TARGET_LANGUAGE)
+            )
+        ).thenReturn(List.of("TRANSLATED_VALUE1"));
+
+        // Act
+        Map<String, Object> result = jsonTranslator.translateJsonFile(
+            jsonFile.toString(),
+            SOURCE_LANGUAGE,
+            TARGET_LANGUAGE
+        );
+
+        // Assert
+        assertEquals("TRANSLATED_VALUE1", result.get("key1"));
+        assertEquals(" ", result.get("key2"));
+    }
+
+    @Test
+    void translateJsonFile_shouldTranslateDuplicateValuesOnce() throws IOException {
+        // Arrange
+        String jsonContent =
+            "{\"save\":\"Speichern\",\"dialog\":{\"save\":\"Speichern\",\"cancel\":\"Abbrechen\"}}";
+        Path jsonFile = createTempJsonFile(jsonContent);
+
+        when(
+            translateClient.translateBatch(
+                eq(List.of("Speichern", "Abbrechen")),
+                eq(SOURCE_LANGUAGE),
+                eq(TARGET_LANGUAGE)
+            )
+        ).thenReturn(List.of("Save", "Cancel"));
+
+        // Act
+        Map<String, Object> result = jsonTranslator.translateJsonFile(
+            jsonFile.toString(),
+            SOURCE_LANGUAGE,
+            TARGET_LANGUAGE
+        );
+
+        // Assert
+        verify(translateClient, times(1)).translateBatch(
+            anyList(),
+            eq(SOURCE_LANGUAGE),
+            eq(TARGET_LANGUAGE)
+        );
+        assertEquals("Save", result.get("save"));
+        Map<String, Object> dialogResult = (Map<String, Object>) result.get(
+            "dialog"
+        );
+        assertEquals("Save", dialogResult.get("save"));
+        assertEquals("Cancel", dialogResult.get("cancel"));
+    }
+
+    @Test
+    void translateAll_shouldTranslateTextsSharedBetweenFilesOnce() {
+        // Arrange
+        JsonTemplate common = JsonTemplate.of(Map.of("save", "Speichern"));
+        Map<String, Object> checkoutSource = new LinkedHashMap<>();
+        checkoutSource.put("confirm", "Speichern");
+        checkoutSource.put("pay", "Bezahlen");
+        JsonTemplate checkout = JsonTemplate.of(checkoutSource);
+
+        when(
+            translateClient.translateBatch(
+                anyList(),
+                eq(SOURCE_LANGUAGE),
+                eq(TARGET_LANGUAGE)
+            )
+        ).thenAnswer(invocation -> ((List<String>) invocation.getArgument(0))
+            .stream()
+            .map(text -> text.equals("Speichern") ? "Save" : "Pay")
+            .toList());
+
+        // Act
+        List<Map<String, Object>> results = jsonTranslator.translateAll(
+            List.of(common, checkout),
+            SOURCE_LANGUAGE,
+            TARGET_LANGUAGE
+        );
+
+        // Assert
+        verify(translateClient, times(1)).translateBatch(
+            eq(List.of("Speichern", "Bezahlen")),
+            eq(SOURCE_LANGUAGE),
+            eq(TARGET_LANGUAGE)
+        );
+        assertEquals(Map.of("save", "Save"), results.get(0));
+        assertEquals(Map.of("confirm", "Save", "pay", "Pay"), results.get(1));
+    }
+
+    @Test
+    void translateIncrementally_shouldOnlyTranslateNewAndChangedKeys() throws IOException {
+        // Arrange
+        String jsonContent =
+            "{\"unchanged\":\"Speichern\",\"changed\":\"Abbrechen!\",\"added\":\"Neu\"}";
+        JsonTemplate template = jsonTranslator.parse(createTempJsonFile(jsonContent).toString());
+        Map<String, String> sourceHashes = TranslationLockFile.hashes(template);
+
+        Map<String, String> previousHashes = Map.of(
+            "/unchanged", TranslationLockFile.hash("Speichern"),
+            "/changed", TranslationLockFile.hash("Abbrechen"),
+            "/removed", TranslationLockFile.hash("Entfernt")
+        );
+        Map<String, Object> previousOutput = Map.of(
+            "unchanged", "Save",
+            "changed", "Cancel",
+            "removed", "Removed"
+        );
+
+        when(
+            translateClient.translateBatch(
+                eq(List.of("Abbrechen!", "Neu")),
+                eq(SOURCE_LANGUAGE),
+                eq(TARGET_LANGUAGE)
+            )
+        ).thenReturn(Arrays.asList("Cancel!", null));
+
+        // Act
+        JsonTranslator.IncrementalResult result = jsonTranslator.translateIncrementally(
+            template,
+            sourceHashes,
+            previousHashes,
+            previousOutput,
+            SOURCE_LANGUAGE,
+            TARGET_LANGUAGE
+        );
+
+        // Assert
+        assertEquals(Map.of("unchanged", "Save", "changed", "Cancel!", "added", ""), result.output());
+        // The failed translation of "added" stays unlocked so the next run retries it
+        assertEquals(Map.of(
+            "/unchanged", sourceHashes.get("/unchanged"),
+            "/changed", sourceHashes.get("/changed")
+        ), result.hashes());
+    }
+
     private Path createTempJsonFile(String content) throws IOException {
         Path filePath = tempDir.resolve("test.json");
         Files.writeString(filePath, content);
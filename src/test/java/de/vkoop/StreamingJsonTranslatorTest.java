@@ -0,0 +1,157 @@
+package de.vkoop;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.vkoop.interfaces.TranslateClient;
+import de.vkoop.report.TranslationStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class StreamingJsonTranslatorTest {
+
+    private static final String SOURCE_LANGUAGE = "DE";
+    private static final String TARGET_LANGUAGE = "EN";
+
+    @Mock
+    private TranslateClient translateClient;
+
+    private StreamingJsonTranslator streamingJsonTranslator;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        streamingJsonTranslator = new StreamingJsonTranslator(translateClient);
+    }
+
+    @Test
+    void translate_shouldTranslateStringsInWindowsAndKeepKeyOrder() throws IOException {
+        // Arrange
+        Path source = tempDir.resolve("de.json");
+        Files.writeString(source,
+            "{\"z\":\"eins\",\"count\":3,\"nested\":{\"a\":\"zwei\",\"b\":\"eins\",\"list\":[1,2]},\"blank\":\" \",\"c\":\"drei\"}");
+        File target = tempDir.resolve("en.json").toFile();
+        streamingJsonTranslator.setBatchSize(2);
+
+        when(translateClient.translateBatch(anyList(), eq(SOURCE_LANGUAGE), eq(TARGET_LANGUAGE)))
+            .thenAnswer(invocation -> {
+                List<String> texts = invocation.getArgument(0);
+                return texts.stream().map(String::toUpperCase).toList();
+            });
+
+        // Act
+        streamingJsonTranslator.translate(source.toFile(), target, SOURCE_LANGUAGE, TARGET_LANGUAGE);
+
+        // Assert
+        verify(translateClient, times(2)).translateBatch(anyList(), eq(SOURCE_LANGUAGE), eq(TARGET_LANGUAGE));
+        Map<String, Object> result = new ObjectMapper().readValue(target, Map.class);
+        assertEquals(List.of("z", "nested", "blank", "c"), List.copyOf(result.keySet()));
+        assertEquals("EINS", result.get("z"));
+        assertEquals(Map.of("a", "ZWEI", "b", "EINS"), result.get("nested"));
+        assertEquals(" ", result.get("blank"));
+        assertEquals("DREI", result.get("c"));
+    }
+
+    @Test
+    void translate_shouldBoundWindowOfRepetitiveDocument() throws IOException {
+        // Arrange: one distinct text, so the batch never fills
+        int keys = 5_000;
+        StringBuilder json = new StringBuilder("{");
+        for (int i = 0; i < keys; i++) {
+            json.append(i == 0 ? "" : ",").append("\"key").append(i).append("\":\"").append(i % 10 == 0 ? " " : "Hallo").append('"');
+        }
+        Path source = tempDir.resolve("de.json");
+        Files.writeString(source, json.append('}').toString());
+        File target = tempDir.resolve("en.json").toFile();
+        streamingJsonTranslator.setMaxWindowTokens(100);
+
+        List<List<String>> batches = new ArrayList<>();
+        when(translateClient.translateBatch(anyList(), eq(SOURCE_LANGUAGE), eq(TARGET_LANGUAGE)))
+            .thenAnswer(invocation -> {
+                List<String> texts = invocation.getArgument(0);
+                batches.add(List.copyOf(texts));
+                return List.of("Hello");
+            });
+
+        // Act
+        streamingJsonTranslator.translate(source.toFile(), target, SOURCE_LANGUAGE, TARGET_LANGUAGE);
+
+        // Assert: a field name and a value per key, written at least every 100 tokens
+        assertTrue(batches.size() >= 2 * keys / 100, "Windows written: " + batches.size());
+        batches.forEach(batch -> assertEquals(List.of("Hallo"), batch));
+        Map<String, Object> result = new ObjectMapper().readValue(target, Map.class);
+        assertEquals(keys, result.size());
+        assertEquals("Hello", result.get("key1"));
+        assertEquals(" ", result.get("key10"));
+    }
+
+    @Test
+    void translate_shouldCountLeavesAndTextsForReport() throws IOException {
+        // Arrange
+        Path source = tempDir.resolve("de.json");
+        Files.writeString(source, "{\"a\":\"Hallo\",\"nested\":{\"b\":\"Hallo\",\"c\":\"Welt\"},\"blank\":\" \"}");
+        TranslationStatistics statistics = new TranslationStatistics();
+        streamingJsonTranslator.setStatistics(statistics);
+        when(translateClient.translateBatch(List.of("Hallo", "Welt"), SOURCE_LANGUAGE, TARGET_LANGUAGE))
+            .thenReturn(List.of("Hello", "World"));
+
+        // Act
+        streamingJsonTranslator.translate(source.toFile(), tempDir.resolve("en.json").toFile(), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+
+        // Assert
+        TranslationStatistics.Snapshot snapshot = statistics.snapshot(TARGET_LANGUAGE);
+        assertEquals(3, snapshot.leaves());
+        assertEquals(2, snapshot.texts());
+    }
+
+    @Test
+    void translate_shouldNotLeaveTargetBehindWhenTranslationFails() throws IOException {
+        // Arrange
+        Path source = tempDir.resolve("de.json");
+        Files.writeString(source, "{\"key\":\"Wert\"}");
+        File target = tempDir.resolve("en.json").toFile();
+
+        when(translateClient.translateBatch(anyList(), eq(SOURCE_LANGUAGE), eq(TARGET_LANGUAGE)))
+            .thenThrow(new RuntimeException("Network timeout"));
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () ->
+            streamingJsonTranslator.translate(source.toFile(), target, SOURCE_LANGUAGE, TARGET_LANGUAGE));
+        assertFalse(target.exists());
+        try (var files = Files.list(tempDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void translate_shouldRejectDocumentsThatAreNoObject() throws IOException {
+        Path source = tempDir.resolve("de.json");
+        Files.writeString(source, "[\"Wert\"]");
+
+        assertThrows(IOException.class, () -> streamingJsonTranslator.translate(
+            source.toFile(), tempDir.resolve("en.json").toFile(), SOURCE_LANGUAGE, TARGET_LANGUAGE));
+    }
+}
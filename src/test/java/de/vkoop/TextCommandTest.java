@@ -16,8 +16,12 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
@@ -143,6 +147,52 @@ public class TextCommandTest {
         assertTrue(outContent.toString().contains(TRANSLATED_TEXT_2));
     }
 
+    @Test
+    void run_shouldPrintOneLinePerLanguageInStreamMode() {
+        // Arrange
+        textCommand.targetLanguages = Arrays.asList(
+            TARGET_LANGUAGE_1,
+            TARGET_LANGUAGE_2
+        );
+        textCommand.text = TEXT_TO_TRANSLATE;
+        textCommand.stream = true;
+
+        when(
+            translateClient.translateStreaming(
+                eq(TEXT_TO_TRANSLATE),
+                eq(SOURCE_LANGUAGE),
+                eq(TARGET_LANGUAGE_1),
+                any()
+            )
+        ).thenAnswer(invocation -> streamed(invocation.getArgument(3), "Hello ", "World"));
+
+        when(
+            translateClient.translateStreaming(
+                eq(TEXT_TO_TRANSLATE),
+                eq(SOURCE_LANGUAGE),
+                eq(TARGET_LANGUAGE_2),
+                any()
+            )
+        ).thenAnswer(invocation -> streamed(invocation.getArgument(3), "Bonjour ", "le Monde"));
+
+        // Act
+        textCommand.run();
+
+        // Assert
+        assertEquals(
+            TARGET_LANGUAGE_1 + ": " + TRANSLATED_TEXT_1 + System.lineSeparator()
+                + TARGET_LANGUAGE_2 + ": " + TRANSLATED_TEXT_2 + System.lineSeparator(),
+            outContent.toString()
+        );
+    }
+
+    private static CompletableFuture<Response> streamed(Consumer<String> onPartial, String... pieces) {
+        for (String piece : pieces) {
+            onPartial.accept(piece);
+        }
+        return CompletableFuture.completedFuture(Response.of(String.join("", pieces), SOURCE_LANGUAGE));
+    }
+
     @Test
     void run_shouldHandleNullResponse() {
         // Arrange
@@ -2,7 +2,9 @@ package de.vkoop;
 
 import de.vkoop.clients.DeeplTranslateClient;
 import de.vkoop.data.Response;
+import de.vkoop.exceptions.QuotaExceededException;
 import de.vkoop.exceptions.TranslationException;
+import de.vkoop.report.TranslationStatistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,11 +12,23 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -23,6 +37,9 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -241,4 +258,261 @@ public class TranslateClientTest {
             translateClient.translate(TEXT_TO_TRANSLATE, SOURCE_LANGUAGE, TARGET_LANGUAGE);
         }, "Should throw exception when URL construction fails");
     }
+
+    @Test
+    void translateBatch_shouldPostFormEncodedTextsWithAuthorizationHeader() throws Exception {
+        // Arrange
+        String jsonResponse = """
+                {"translations":[{"detected_source_language":"DE","text":"Hello World"},
+                {"detected_source_language":"DE","text":"Good & bad"}]}""";
+        when(httpResponse.body()).thenReturn(jsonResponse);
+        when(httpResponse.statusCode()).thenReturn(200);
+        when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(httpResponse);
+
+        ArgumentCaptor<HttpRequest> requestCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+
+        // Act
+        List<String> translations = translateClient.translateBatch(
+                List.of(TEXT_TO_TRANSLATE, "Gut & schlecht"), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+
+        // Assert
+        verify(httpClient).send(requestCaptor.capture(), any(HttpResponse.BodyHandler.class));
+        HttpRequest capturedRequest = requestCaptor.getValue();
+
+        assertEquals("POST", capturedRequest.method());
+        assertEquals("DeepL-Auth-Key " + AUTH_KEY,
+                capturedRequest.headers().firstValue("Authorization").orElse(null));
+        assertFalse(capturedRequest.uri().toString().contains(AUTH_KEY),
+                "Auth key should not be sent in the URL");
+
+        String body = bodyOf(capturedRequest);
+        assertTrue(body.contains("text=Hallo+Welt&text=Gut+%26+schlecht"),
+                "Body should carry one encoded text parameter per text, got: " + body);
+        assertTrue(body.contains("source_lang=" + SOURCE_LANGUAGE));
+        assertTrue(body.contains("target_lang=" + TARGET_LANGUAGE));
+
+        assertEquals(List.of(TRANSLATED_TEXT, "Good & bad"), translations);
+    }
+
+    @Test
+    void translateBatch_shouldSplitRequestsAboveDeeplLimit() throws Exception {
+        // Arrange - 60 texts need two requests of at most 50 texts
+        List<String> texts = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            texts.add("Text " + i);
+        }
+        when(httpResponse.body()).thenReturn(translationsJson(50), translationsJson(10));
+        when(httpResponse.statusCode()).thenReturn(200);
+        when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(httpResponse);
+
+        // Act
+        List<String> translations = translateClient.translateBatch(texts, SOURCE_LANGUAGE, TARGET_LANGUAGE);
+
+        // Assert
+        verify(httpClient, times(2)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+        assertEquals(60, translations.size());
+    }
+
+    @Test
+    void translateBatch_shouldReturnNullTranslationsForHttpError() throws Exception {
+        // Arrange
+        when(httpResponse.body()).thenReturn("{\"message\":\"Value for 'target_lang' not supported.\"}");
+        when(httpResponse.statusCode()).thenReturn(400);
+        when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(httpResponse);
+
+        // Act
+        List<String> translations = translateClient.translateBatch(
+                List.of(TEXT_TO_TRANSLATE, TEXT_TO_TRANSLATE), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+
+        // Assert
+        assertEquals(Arrays.asList(null, null), translations);
+    }
+
+    @Test
+    void translateBatch_shouldRetryThrottledRequestAfterRetryAfter() throws Exception {
+        // Arrange
+        HttpResponse<String> throttledResponse = mockResponse(429, "{\"message\":\"Too many requests\"}");
+        when(throttledResponse.headers()).thenReturn(
+                HttpHeaders.of(Map.of("Retry-After", List.of("0")), (name, value) -> true));
+        HttpResponse<String> successResponse = mockResponse(200,
+                "{\"translations\":[{\"detected_source_language\":\"DE\",\"text\":\"" + TRANSLATED_TEXT + "\"}]}");
+        when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(throttledResponse, successResponse);
+        TranslationStatistics statistics = new TranslationStatistics();
+        translateClient.setStatistics(statistics);
+
+        // Act
+        List<String> translations = translateClient.translateBatch(
+                List.of(TEXT_TO_TRANSLATE), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+
+        // Assert
+        assertEquals(List.of(TRANSLATED_TEXT), translations);
+        verify(httpClient, times(2)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+        assertEquals(1, statistics.snapshot(TARGET_LANGUAGE).retries());
+    }
+
+    @Test
+    void translateBatch_shouldFailAfterExhaustingRetries() throws Exception {
+        // Arrange
+        translateClient.setMaxRetries(2);
+        translateClient.setRetryBaseDelayMillis(1);
+        when(httpResponse.statusCode()).thenReturn(503);
+        when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(httpResponse);
+
+        // Act & Assert
+        TranslationException exception = assertThrows(TranslationException.class, () ->
+                translateClient.translateBatch(List.of(TEXT_TO_TRANSLATE), SOURCE_LANGUAGE, TARGET_LANGUAGE));
+
+        assertEquals("DeepL API returned 503 after 2 retries", exception.getMessage());
+        verify(httpClient, times(3)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+    }
+
+    @Test
+    void translate_shouldFailFastOnceQuotaIsExceeded() throws Exception {
+        // Arrange
+        when(httpResponse.body()).thenReturn("{\"message\":\"Quota exceeded\"}");
+        when(httpResponse.statusCode()).thenReturn(456);
+        when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(httpResponse);
+
+        // Act & Assert
+        assertThrows(QuotaExceededException.class, () ->
+                translateClient.translate(TEXT_TO_TRANSLATE, SOURCE_LANGUAGE, TARGET_LANGUAGE));
+        assertThrows(QuotaExceededException.class, () ->
+                translateClient.translateBatch(List.of(TEXT_TO_TRANSLATE), SOURCE_LANGUAGE, TARGET_LANGUAGE));
+        verify(httpClient, times(1)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+    }
+
+    @Test
+    void translateAsync_shouldRetryThrottledRequest() throws Exception {
+        // Arrange
+        translateClient.setRetryBaseDelayMillis(1);
+        HttpResponse<String> throttledResponse = mockResponse(503, "");
+        HttpResponse<String> successResponse = mockResponse(200,
+                "{\"translations\":[{\"detected_source_language\":\"DE\",\"text\":\"" + TRANSLATED_TEXT + "\"}]}");
+        when(httpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(CompletableFuture.completedFuture(throttledResponse),
+                        CompletableFuture.completedFuture(successResponse));
+
+        // Act
+        Response response = translateClient
+                .translateAsync(TEXT_TO_TRANSLATE, SOURCE_LANGUAGE, TARGET_LANGUAGE)
+                .get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(TRANSLATED_TEXT, response.translations.get(0).text);
+        verify(httpClient, times(2)).sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+    }
+
+    private HttpResponse<String> mockResponse(int statusCode, String body) {
+        HttpResponse<String> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(statusCode);
+        lenient().when(response.body()).thenReturn(body);
+        return response;
+    }
+
+    @Test
+    void translateAsync_shouldUseNonBlockingSend() throws Exception {
+        // Arrange
+        String jsonResponse = """
+                {"translations":[{"detected_source_language":"DE","text":"Hello World"}]}""";
+        when(httpResponse.body()).thenReturn(jsonResponse);
+        when(httpResponse.statusCode()).thenReturn(200);
+        when(httpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(CompletableFuture.completedFuture(httpResponse));
+
+        // Act
+        Response response = translateClient
+                .translateAsync(TEXT_TO_TRANSLATE, SOURCE_LANGUAGE, TARGET_LANGUAGE)
+                .get(5, TimeUnit.SECONDS);
+
+        // Assert
+        verify(httpClient).sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+        assertNotNull(response);
+        assertEquals(TRANSLATED_TEXT, response.translations.get(0).text);
+    }
+
+    @Test
+    void translateAsync_shouldFailWithTranslationExceptionForHttpError() {
+        // Arrange
+        when(httpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IOException("Network error")));
+
+        // Act & Assert
+        CompletionException exception = assertThrows(CompletionException.class, () ->
+                translateClient.translateAsync(TEXT_TO_TRANSLATE, SOURCE_LANGUAGE, TARGET_LANGUAGE).join());
+
+        assertTrue(exception.getCause() instanceof TranslationException);
+        assertEquals("Translation API call failed", exception.getCause().getMessage());
+        assertTrue(exception.getCause().getCause() instanceof IOException);
+    }
+
+    @Test
+    void translateBatchAsync_shouldKeepChunkOrder() throws Exception {
+        // Arrange - 60 texts need two requests of at most 50 texts
+        List<String> texts = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            texts.add("Text " + i);
+        }
+        when(httpResponse.body()).thenReturn(translationsJson(50), translationsJson(10));
+        when(httpResponse.statusCode()).thenReturn(200);
+        when(httpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(CompletableFuture.completedFuture(httpResponse));
+
+        // Act
+        List<String> translations = translateClient
+                .translateBatchAsync(texts, SOURCE_LANGUAGE, TARGET_LANGUAGE)
+                .get(5, TimeUnit.SECONDS);
+
+        // Assert
+        verify(httpClient, times(2)).sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+        assertEquals(60, translations.size());
+        assertEquals("Translation 49", translations.get(49));
+        assertEquals("Translation 0", translations.get(50));
+    }
+
+    private static String translationsJson(int count) {
+        StringBuilder json = new StringBuilder("{\"translations\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"detected_source_language\":\"DE\",\"text\":\"Translation ").append(i).append("\"}");
+        }
+        return json.append("]}").toString();
+    }
+
+    private static String bodyOf(HttpRequest request) throws Exception {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        CompletableFuture<Void> completed = new CompletableFuture<>();
+        request.bodyPublisher().orElseThrow().subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                byte[] bytes = new byte[item.remaining()];
+                item.get(bytes);
+                body.writeBytes(bytes);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                completed.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                completed.complete(null);
+            }
+        });
+        completed.get(5, TimeUnit.SECONDS);
+        return body.toString(StandardCharsets.UTF_8);
+    }
 }
@@ -0,0 +1,62 @@
+package de.vkoop;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TranslationLockFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void defaultPath_shouldReplaceExtensionOfSourceFile() {
+        Path path = TranslationLockFile.defaultPath(tempDir.resolve("de.json").toString());
+
+        assertEquals(tempDir.resolve("de.lock.json"), path);
+    }
+
+    @Test
+    void save_shouldRoundTripHashesPerLanguage() throws IOException {
+        Path path = tempDir.resolve("de.lock.json");
+        TranslationLockFile lockFile = TranslationLockFile.load(path, "DE");
+        lockFile.setHashes("EN", Map.of("/save", TranslationLockFile.hash("Speichern")));
+        lockFile.setHashes("FR", Map.of("/cancel", TranslationLockFile.hash("Abbrechen")));
+
+        lockFile.save();
+        TranslationLockFile loaded = TranslationLockFile.load(path, "DE");
+
+        assertEquals(Map.of("/save", TranslationLockFile.hash("Speichern")), loaded.getHashes("EN"));
+        assertEquals(Map.of("/cancel", TranslationLockFile.hash("Abbrechen")), loaded.getHashes("FR"));
+        assertTrue(loaded.getHashes("ES").isEmpty());
+    }
+
+    @Test
+    void load_shouldIgnoreLockFileOfAnotherSourceLanguage() throws IOException {
+        Path path = tempDir.resolve("de.lock.json");
+        TranslationLockFile lockFile = TranslationLockFile.load(path, "DE");
+        lockFile.setHashes("EN", Map.of("/save", TranslationLockFile.hash("Speichern")));
+        lockFile.save();
+
+        TranslationLockFile loaded = TranslationLockFile.load(path, "FR");
+
+        assertTrue(loaded.getHashes("EN").isEmpty());
+    }
+
+    @Test
+    void hashes_shouldBeKeyedByJsonPointer() {
+        JsonTemplate template = JsonTemplate.of(Map.of("dialog", Map.of("a/b", "Speichern")));
+
+        Map<String, String> hashes = TranslationLockFile.hashes(template);
+
+        assertEquals(Map.of("/dialog/a~1b", TranslationLockFile.hash("Speichern")), hashes);
+        assertNotEquals(TranslationLockFile.hash("Speichern"), TranslationLockFile.hash("Speichern "));
+    }
+}
@@ -0,0 +1,119 @@
+package de.vkoop.cache;
+
+import de.vkoop.data.Response;
+import de.vkoop.interfaces.TranslateClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingTranslateClientTest {
+
+    private static final String SOURCE_LANGUAGE = "DE";
+    private static final String TARGET_LANGUAGE = "EN";
+
+    @Mock
+    private TranslateClient delegate;
+
+    private CachingTranslateClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = new CachingTranslateClient(delegate, 100);
+    }
+
+    @Test
+    void translate_shouldServeRepeatedTextFromCache() {
+        when(delegate.translate("Speichern", SOURCE_LANGUAGE, TARGET_LANGUAGE))
+                .thenReturn(Response.of("Save", SOURCE_LANGUAGE));
+
+        client.translate("Speichern", SOURCE_LANGUAGE, TARGET_LANGUAGE);
+        Response second = client.translate("Speichern", SOURCE_LANGUAGE, TARGET_LANGUAGE);
+
+        assertEquals("Save", Response.firstText(second));
+        verify(delegate, times(1)).translate("Speichern", SOURCE_LANGUAGE, TARGET_LANGUAGE);
+        CacheStats stats = client.getStats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(1, stats.size());
+    }
+
+    @Test
+    void translate_shouldKeepLanguagePairsApart() {
+        when(delegate.translate("Speichern", SOURCE_LANGUAGE, "EN"))
+                .thenReturn(Response.of("Save", SOURCE_LANGUAGE));
+        when(delegate.translate("Speichern", SOURCE_LANGUAGE, "FR"))
+                .thenReturn(Response.of("Enregistrer", SOURCE_LANGUAGE));
+
+        client.translate("Speichern", SOURCE_LANGUAGE, "EN");
+        Response french = client.translate("Speichern", SOURCE_LANGUAGE, "FR");
+
+        assertEquals("Enregistrer", Response.firstText(french));
+        assertEquals(0, client.getStats().hits());
+    }
+
+    @Test
+    void translate_shouldNotCacheFailedTranslations() {
+        when(delegate.translate("Speichern", SOURCE_LANGUAGE, TARGET_LANGUAGE)).thenReturn(null);
+
+        assertNull(client.translate("Speichern", SOURCE_LANGUAGE, TARGET_LANGUAGE));
+        assertNull(client.translate("Speichern", SOURCE_LANGUAGE, TARGET_LANGUAGE));
+
+        verify(delegate, times(2)).translate("Speichern", SOURCE_LANGUAGE, TARGET_LANGUAGE);
+        assertEquals(0, client.getStats().size());
+    }
+
+    @Test
+    void translateBatch_shouldOnlySendMissingTexts() {
+        when(delegate.translateBatch(List.of("Speichern"), SOURCE_LANGUAGE, TARGET_LANGUAGE))
+                .thenReturn(List.of("Save"));
+        when(delegate.translateBatch(List.of("Abbrechen"), SOURCE_LANGUAGE, TARGET_LANGUAGE))
+                .thenReturn(List.of("Cancel"));
+
+        client.translateBatch(List.of("Speichern"), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+        List<String> result = client.translateBatch(List.of("Speichern", "Abbrechen"), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+
+        assertEquals(List.of("Save", "Cancel"), result);
+        assertEquals(1, client.getStats().hits());
+    }
+
+    @Test
+    void translateBatchAsync_shouldCompleteFromCacheWithoutCallingDelegate() {
+        when(delegate.translateBatch(List.of("Speichern", "Abbrechen"), SOURCE_LANGUAGE, TARGET_LANGUAGE))
+                .thenReturn(Arrays.asList("Save", "Cancel"));
+        client.translateBatch(List.of("Speichern", "Abbrechen"), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+
+        CompletableFuture<List<String>> future =
+                client.translateBatchAsync(List.of("Abbrechen", "Speichern"), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+
+        assertEquals(List.of("Cancel", "Save"), future.join());
+        verify(delegate, times(1)).translateBatch(List.of("Speichern", "Abbrechen"), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+    }
+
+    @Test
+    void cache_shouldEvictLeastRecentlyUsedEntry() {
+        StripedLruCache<String, String> cache = new StripedLruCache<>(2, 1);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.get("a");
+        cache.put("c", "C");
+
+        assertEquals("A", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("C", cache.get("c"));
+        assertEquals(1, cache.stats().evictions());
+        assertEquals(2, cache.stats().size());
+    }
+}
@@ -0,0 +1,115 @@
+package de.vkoop.cache;
+
+import de.vkoop.data.Response;
+import de.vkoop.interfaces.TranslateClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TranslationMemoryClientTest {
+
+    private static final String SOURCE_LANGUAGE = "DE";
+    private static final String TARGET_LANGUAGE = "EN";
+
+    @Mock
+    private TranslateClient delegate;
+
+    @TempDir
+    Path tempDir;
+
+    private TranslationMemoryClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        client = new TranslationMemoryClient(delegate, new TranslationMemory(tempDir, 1024 * 1024), "deepl");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.close();
+    }
+
+    @Test
+    void translate_shouldOnlyCallDelegateOnce() {
+        when(delegate.translate("Hallo", SOURCE_LANGUAGE, TARGET_LANGUAGE))
+                .thenReturn(Response.of("Hello", SOURCE_LANGUAGE));
+
+        Response first = client.translate("Hallo", SOURCE_LANGUAGE, TARGET_LANGUAGE);
+        Response second = client.translate("Hallo", SOURCE_LANGUAGE, TARGET_LANGUAGE);
+
+        verify(delegate, times(1)).translate(anyString(), anyString(), anyString());
+        assertEquals("Hello", Response.firstText(first));
+        assertEquals("Hello", Response.firstText(second));
+    }
+
+    @Test
+    void translate_shouldNotStoreFailedTranslations() {
+        when(delegate.translate("Hallo", SOURCE_LANGUAGE, TARGET_LANGUAGE)).thenReturn(null);
+
+        assertNull(client.translate("Hallo", SOURCE_LANGUAGE, TARGET_LANGUAGE));
+        assertNull(client.translate("Hallo", SOURCE_LANGUAGE, TARGET_LANGUAGE));
+
+        verify(delegate, times(2)).translate("Hallo", SOURCE_LANGUAGE, TARGET_LANGUAGE);
+    }
+
+    @Test
+    void translateBatch_shouldOnlySendUnknownTexts() {
+        when(delegate.translateBatch(List.of("Ja", "Nein"), SOURCE_LANGUAGE, TARGET_LANGUAGE))
+                .thenReturn(List.of("Yes", "No"));
+        when(delegate.translateBatch(List.of("Vielleicht"), SOURCE_LANGUAGE, TARGET_LANGUAGE))
+                .thenReturn(List.of("Maybe"));
+
+        client.translateBatch(List.of("Ja", "Nein"), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+        List<String> translations = client.translateBatch(
+                List.of("Nein", "Vielleicht", "Ja"), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+
+        assertEquals(List.of("No", "Maybe", "Yes"), translations);
+    }
+
+    @Test
+    void translateBatch_shouldSkipDelegateWhenEverythingIsStored() {
+        when(delegate.translateBatch(List.of("Ja"), SOURCE_LANGUAGE, TARGET_LANGUAGE))
+                .thenReturn(List.of("Yes"));
+        client.translateBatch(List.of("Ja"), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+
+        List<String> translations = client.translateBatch(List.of("Ja"), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+
+        assertEquals(List.of("Yes"), translations);
+        verify(delegate, times(1)).translateBatch(anyList(), anyString(), anyString());
+    }
+
+    @Test
+    void translateBatchAsync_shouldKeepLanguagePairsApart() {
+        when(delegate.translateBatchAsync(List.of("Ja"), SOURCE_LANGUAGE, TARGET_LANGUAGE))
+                .thenReturn(CompletableFuture.completedFuture(List.of("Yes")));
+        when(delegate.translateBatchAsync(List.of("Ja"), SOURCE_LANGUAGE, "FR"))
+                .thenReturn(CompletableFuture.completedFuture(Arrays.asList((String) null)));
+
+        assertEquals(List.of("Yes"),
+                client.translateBatchAsync(List.of("Ja"), SOURCE_LANGUAGE, TARGET_LANGUAGE).join());
+        assertEquals(Arrays.asList((String) null),
+                client.translateBatchAsync(List.of("Ja"), SOURCE_LANGUAGE, "FR").join());
+        verify(delegate, never()).translateBatch(anyList(), eq(SOURCE_LANGUAGE), anyString());
+    }
+}
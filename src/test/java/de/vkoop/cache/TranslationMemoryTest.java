@@ -0,0 +1,110 @@
+package de.vkoop.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TranslationMemoryTest {
+
+    private static final long MAX_SIZE = 1024 * 1024;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void get_shouldReturnStoredTranslationAfterReopening() throws IOException {
+        String key = TranslationMemory.key("deepl", "de", "en", "Hallo Welt");
+
+        try (TranslationMemory memory = new TranslationMemory(tempDir, MAX_SIZE)) {
+            memory.put(key, "Hello World");
+            assertEquals("Hello World", memory.get(key));
+        }
+
+        try (TranslationMemory reopened = new TranslationMemory(tempDir, MAX_SIZE)) {
+            assertEquals(1, reopened.size());
+            assertEquals("Hello World", reopened.get(key));
+            assertNull(reopened.get(TranslationMemory.key("deepl", "DE", "FR", "Hallo Welt")));
+        }
+    }
+
+    @Test
+    void key_shouldSeparateNamespacesAndIgnoreLanguageCase() {
+        assertEquals(
+                TranslationMemory.key("deepl", "de", "en-gb", "Text"),
+                TranslationMemory.key("deepl", "DE", "EN-GB", "Text"));
+        assertNotEquals(
+                TranslationMemory.key("deepl", "DE", "EN", "Text"),
+                TranslationMemory.key("ollama/gpt-oss:20b", "DE", "EN", "Text"));
+    }
+
+    @Test
+    void refresh_shouldPickUpRecordsOfOtherInstances() throws IOException {
+        String key = TranslationMemory.key("deepl", "DE", "EN", "Speichern");
+
+        try (TranslationMemory first = new TranslationMemory(tempDir, MAX_SIZE);
+             TranslationMemory second = new TranslationMemory(tempDir, MAX_SIZE)) {
+            first.putAll(Map.of(key, "Save"));
+            assertNull(second.get(key));
+
+            second.refresh();
+
+            assertEquals("Save", second.get(key));
+        }
+    }
+
+    @Test
+    void putAll_shouldStopAppendingAtSizeCap() throws IOException {
+        String first = TranslationMemory.key("deepl", "DE", "EN", "Abbrechen");
+        String second = TranslationMemory.key("deepl", "DE", "EN", "Zurück");
+
+        // Room for the header and exactly one record
+        long maxSize = 8 + 12 + first.getBytes(StandardCharsets.UTF_8).length + "Cancel".length();
+        try (TranslationMemory memory = new TranslationMemory(tempDir, maxSize)) {
+            memory.put(first, "Cancel");
+            memory.put(second, "Back");
+
+            assertEquals("Cancel", memory.get(first));
+            assertNull(memory.get(second));
+        }
+    }
+
+    @Test
+    void putAll_shouldDiscardRecordTornByCrashedWriter() throws IOException {
+        String key = TranslationMemory.key("deepl", "DE", "EN", "Weiter");
+        try (TranslationMemory memory = new TranslationMemory(tempDir, MAX_SIZE)) {
+            memory.put(key, "Next");
+        }
+        // Simulate a writer that died halfway through a record
+        Files.write(tempDir.resolve(TranslationMemory.FILE_NAME), new byte[]{0, 0, 0, 40, 0, 0},
+                StandardOpenOption.APPEND);
+
+        String otherKey = TranslationMemory.key("deepl", "DE", "EN", "Fertig");
+        try (TranslationMemory memory = new TranslationMemory(tempDir, MAX_SIZE)) {
+            assertEquals("Next", memory.get(key));
+            memory.put(otherKey, "Done");
+        }
+
+        try (TranslationMemory reopened = new TranslationMemory(tempDir, MAX_SIZE)) {
+            assertEquals("Next", reopened.get(key));
+            assertEquals("Done", reopened.get(otherKey));
+        }
+    }
+
+    @Test
+    void constructor_shouldRejectForeignFile() throws IOException {
+        Files.writeString(tempDir.resolve(TranslationMemory.FILE_NAME), "not a translation memory");
+
+        assertThrows(IOException.class, () -> new TranslationMemory(tempDir, MAX_SIZE));
+    }
+}
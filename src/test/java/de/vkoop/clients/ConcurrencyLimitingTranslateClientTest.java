@@ -0,0 +1,138 @@
+package de.vkoop.clients;
+
+import de.vkoop.JsonTemplate;
+import de.vkoop.JsonTranslator;
+import de.vkoop.cache.CachingTranslateClient;
+import de.vkoop.data.Response;
+import de.vkoop.exceptions.TranslationException;
+import de.vkoop.interfaces.TranslateClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ConcurrencyLimitingTranslateClientTest {
+
+    private static final String SOURCE_LANGUAGE = "DE";
+    private static final String TARGET_LANGUAGE = "EN";
+
+    @Mock
+    private TranslateClient delegate;
+
+    private ConcurrencyLimitingTranslateClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = new ConcurrencyLimitingTranslateClient(delegate, 2);
+    }
+
+    @Test
+    void translateBatchAsync_shouldQueueCallsBeyondTheLimit() {
+        CompletableFuture<List<String>> first = new CompletableFuture<>();
+        CompletableFuture<List<String>> second = new CompletableFuture<>();
+        when(delegate.translateBatchAsync(List.of("eins"), SOURCE_LANGUAGE, TARGET_LANGUAGE)).thenReturn(first);
+        when(delegate.translateBatchAsync(List.of("zwei"), SOURCE_LANGUAGE, TARGET_LANGUAGE)).thenReturn(second);
+        when(delegate.translateBatchAsync(List.of("drei"), SOURCE_LANGUAGE, TARGET_LANGUAGE))
+                .thenReturn(CompletableFuture.completedFuture(List.of("three")));
+
+        client.translateBatchAsync(List.of("eins"), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+        client.translateBatchAsync(List.of("zwei"), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+        CompletableFuture<List<String>> third =
+                client.translateBatchAsync(List.of("drei"), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+
+        verify(delegate, never()).translateBatchAsync(List.of("drei"), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+        assertFalse(third.isDone());
+        assertEquals(2, client.getInFlight());
+
+        first.complete(List.of("one"));
+
+        assertEquals(List.of("three"), third.join());
+        second.complete(List.of("two"));
+        assertEquals(0, client.getInFlight());
+    }
+
+    @Test
+    void translateBatchAsync_shouldReleaseSlotWhenCallFails() {
+        when(delegate.translateBatchAsync(List.of("eins"), SOURCE_LANGUAGE, TARGET_LANGUAGE))
+                .thenThrow(new IllegalStateException("boom"));
+
+        CompletableFuture<List<String>> result =
+                client.translateBatchAsync(List.of("eins"), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+
+        assertTrue(result.isCompletedExceptionally());
+        assertEquals(0, client.getInFlight());
+    }
+
+    @Test
+    void translate_shouldWaitForFreeSlot() throws Exception {
+        CompletableFuture<Response> first = new CompletableFuture<>();
+        CompletableFuture<Response> second = new CompletableFuture<>();
+        when(delegate.translateAsync("eins", SOURCE_LANGUAGE, TARGET_LANGUAGE)).thenReturn(first);
+        when(delegate.translateAsync("zwei", SOURCE_LANGUAGE, TARGET_LANGUAGE)).thenReturn(second);
+        when(delegate.translate("drei", SOURCE_LANGUAGE, TARGET_LANGUAGE)).thenReturn(Response.of("three", SOURCE_LANGUAGE));
+        client.translateAsync("eins", SOURCE_LANGUAGE, TARGET_LANGUAGE);
+        client.translateAsync("zwei", SOURCE_LANGUAGE, TARGET_LANGUAGE);
+
+        CompletableFuture<Response> blocked = CompletableFuture.supplyAsync(
+                () -> client.translate("drei", SOURCE_LANGUAGE, TARGET_LANGUAGE));
+        Thread.sleep(50);
+        assertFalse(blocked.isDone());
+
+        second.complete(Response.of("two", SOURCE_LANGUAGE));
+
+        assertEquals("three", Response.firstText(blocked.get(5, TimeUnit.SECONDS)));
+    }
+
+    @Test
+    void translateBatchAsync_shouldNotSendQueuedBatchesAfterTheLanguageFailed() throws Exception {
+        // Queued calls only start when the test runs them
+        List<Runnable> deferredStarts = new CopyOnWriteArrayList<>();
+        ConcurrencyLimitingTranslateClient limitingClient =
+                new ConcurrencyLimitingTranslateClient(delegate, 1, deferredStarts::add);
+        JsonTranslator jsonTranslator = new JsonTranslator(new CachingTranslateClient(limitingClient, 100));
+        jsonTranslator.setBatchSize(1);
+        Map<String, Object> source = new LinkedHashMap<>();
+        source.put("one", "eins");
+        source.put("two", "zwei");
+        source.put("three", "drei");
+        CompletableFuture<List<String>> first = new CompletableFuture<>();
+        when(delegate.translateBatchAsync(List.of("eins"), SOURCE_LANGUAGE, TARGET_LANGUAGE)).thenReturn(first);
+
+        CompletableFuture<Map<String, Object>> translation = CompletableFuture.supplyAsync(
+                () -> jsonTranslator.translate(JsonTemplate.of(source), SOURCE_LANGUAGE, TARGET_LANGUAGE));
+        verify(delegate, timeout(5000)).translateBatchAsync(List.of("eins"), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+        while (limitingClient.getQueued() < 2) {
+            Thread.sleep(1);
+        }
+
+        first.completeExceptionally(new TranslationException("DeepL API returned 500 after 5 retries"));
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> translation.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(TranslationException.class, failure.getCause());
+        deferredStarts.forEach(Runnable::run);
+
+        verify(delegate, never()).translateBatchAsync(List.of("zwei"), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+        verify(delegate, never()).translateBatchAsync(List.of("drei"), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+        assertEquals(0, limitingClient.getQueued());
+        assertEquals(0, limitingClient.getInFlight());
+    }
+}
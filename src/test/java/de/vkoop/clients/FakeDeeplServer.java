@@ -0,0 +1,179 @@
+package de.vkoop.clients;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local stand-in for the DeepL API in load tests.
+ * <p>
+ * Answers the single and batch requests of {@link DeeplTranslateClient} after a log-normally
+ * distributed delay, fails a share of them with 500 and throttles with 429 and {@code Retry-After}
+ * once more requests arrive within a second than the profile allows. The status of every response
+ * is recorded, latencies are measured by the client.
+ */
+public class FakeDeeplServer implements Closeable {
+
+    public static final String TRANSLATE_PATH = "/v2/translate";
+
+    // z-score of the 99th percentile, turns the p99 of the profile into the spread of the log-normal delay
+    private static final double Z_99 = 2.326;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * @param medianLatencyMillis  Median delay of a response
+     * @param p99LatencyMillis     99th percentile of the delay, at least the median
+     * @param errorRate            Share of the requests answered with 500
+     * @param maxRequestsPerSecond Requests per second before 429 is returned, 0 never throttles
+     * @param seed                 Seed of the delays and errors, so runs are comparable
+     */
+    public record Profile(long medianLatencyMillis, long p99LatencyMillis, double errorRate,
+                          int maxRequestsPerSecond, long seed) {
+    }
+
+    private final Profile profile;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Random random;
+    private final double latencySigma;
+    private final ConcurrentLinkedQueue<Integer> statusCodes = new ConcurrentLinkedQueue<>();
+    private final Map<Long, AtomicInteger> requestsPerSecond = new ConcurrentHashMap<>();
+
+    public FakeDeeplServer(Profile profile) throws IOException {
+        this.profile = profile;
+        this.random = new Random(profile.seed());
+        this.latencySigma = Math.log((double) Math.max(profile.p99LatencyMillis(), profile.medianLatencyMillis())
+                / Math.max(1, profile.medianLatencyMillis())) / Z_99;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        // The delays are slept, so every request in flight needs its own thread
+        this.executor = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "fake-deepl");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext(TRANSLATE_PATH, this::handle);
+        server.start();
+    }
+
+    public String getUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + TRANSLATE_PATH;
+    }
+
+    public List<Integer> getStatusCodes() {
+        return new ArrayList<>(statusCodes);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            Map<String, List<String>> parameters = parameters(exchange);
+            List<String> texts = parameters.getOrDefault("text", List.of());
+            String targetLanguage = parameters.getOrDefault("target_lang", List.of("")).get(0);
+
+            int statusCode;
+            if (isThrottled()) {
+                exchange.getResponseHeaders().add("Retry-After", "1");
+                statusCode = send(exchange, 429, Map.of("message", "Too many requests"));
+            } else {
+                sleep(nextLatencyMillis());
+                if (nextDouble() < profile.errorRate()) {
+                    statusCode = send(exchange, 500, Map.of("message", "Internal server error"));
+                } else {
+                    String sourceLanguage = parameters.getOrDefault("source_lang", List.of("")).get(0);
+                    List<Map<String, String>> translations = texts.stream()
+                            .map(text -> Map.of(
+                                    "detected_source_language", sourceLanguage,
+                                    "text", "[" + targetLanguage + "] " + text))
+                            .toList();
+                    statusCode = send(exchange, 200, Map.of("translations", translations));
+                }
+            }
+            statusCodes.add(statusCode);
+        }
+    }
+
+    private boolean isThrottled() {
+        if (profile.maxRequestsPerSecond() <= 0) {
+            return false;
+        }
+        long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        int requests = requestsPerSecond.computeIfAbsent(second, key -> new AtomicInteger()).incrementAndGet();
+        requestsPerSecond.keySet().removeIf(key -> key < second - 1);
+        return requests > profile.maxRequestsPerSecond();
+    }
+
+    private long nextLatencyMillis() {
+        double gaussian;
+        synchronized (random) {
+            gaussian = random.nextGaussian();
+        }
+        return Math.round(profile.medianLatencyMillis() * Math.exp(latencySigma * gaussian));
+    }
+
+    private double nextDouble() {
+        synchronized (random) {
+            return random.nextDouble();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Map<String, List<String>> parameters(HttpExchange exchange) throws IOException {
+        Map<String, List<String>> parameters = new ConcurrentHashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        for (String form : new String[]{query, body}) {
+            if (form == null || form.isEmpty()) {
+                continue;
+            }
+            for (String pair : form.split("&")) {
+                int separator = pair.indexOf('=');
+                String name = URLDecoder.decode(separator < 0 ? pair : pair.substring(0, separator), StandardCharsets.UTF_8);
+                String value = separator < 0 ? "" : URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8);
+                parameters.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+            }
+        }
+        return parameters;
+    }
+
+    private static int send(HttpExchange exchange, int statusCode, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(statusCode, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+        return statusCode;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -9,13 +9,21 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.client.ChatClient.CallResponseSpec;
 import org.springframework.ai.chat.client.ChatClient.ChatClientRequestSpec;
+import org.springframework.ai.chat.client.ChatClient.StreamResponseSpec;
 import org.springframework.core.io.Resource;
+import reactor.core.publisher.Flux;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -35,15 +43,21 @@ class OllamaTranslateClientTest {
     @Mock
     private CallResponseSpec callSpec;
 
+    @Mock
+    private StreamResponseSpec streamSpec;
+
     @Mock
     private Resource translationPrompt;
 
+    @Mock
+    private Resource batchTranslationPrompt;
+
     private OllamaTranslateClient client;
 
     @BeforeEach
     void setUp() {
         when(chatClientBuilder.build()).thenReturn(chatClient);
-        client = new OllamaTranslateClient(chatClientBuilder, translationPrompt);
+        client = new OllamaTranslateClient(chatClientBuilder, translationPrompt, batchTranslationPrompt);
     }
 
     @Test
@@ -72,6 +86,199 @@ class OllamaTranslateClientTest {
         assertEquals(sourceLang, response.translations.get(0).detectedSourceLanguage);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void translateAsync_shouldJoinStreamedChunks() throws Exception {
+        // Arrange
+        when(chatClient.prompt()).thenReturn(requestSpec);
+        when(requestSpec.system(any(Consumer.class))).thenReturn(requestSpec);
+        when(requestSpec.user(anyString())).thenReturn(requestSpec);
+        when(requestSpec.stream()).thenReturn(streamSpec);
+        when(streamSpec.content()).thenReturn(Flux.just("Hal", "lo"));
+
+        // Act
+        Response response = client.translateAsync("Hello", "EN", "DE").get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertNotNull(response);
+        assertEquals("Hallo", response.translations.get(0).text);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void translateAsync_shouldCompleteWithNullOnError() throws Exception {
+        // Arrange
+        when(chatClient.prompt()).thenReturn(requestSpec);
+        when(requestSpec.system(any(Consumer.class))).thenReturn(requestSpec);
+        when(requestSpec.user(anyString())).thenReturn(requestSpec);
+        when(requestSpec.stream()).thenReturn(streamSpec);
+        when(streamSpec.content()).thenReturn(Flux.error(new IllegalStateException("Model not loaded")));
+
+        // Act
+        Response response = client.translateAsync("Hello", "EN", "DE").get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertNull(response);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void translateStreaming_shouldReportEveryChunk() throws Exception {
+        // Arrange
+        when(chatClient.prompt()).thenReturn(requestSpec);
+        when(requestSpec.system(any(Consumer.class))).thenReturn(requestSpec);
+        when(requestSpec.user(anyString())).thenReturn(requestSpec);
+        when(requestSpec.stream()).thenReturn(streamSpec);
+        when(streamSpec.content()).thenReturn(Flux.just("Hal", "lo"));
+        List<String> partials = new ArrayList<>();
+
+        // Act
+        Response response = client.translateStreaming("Hello", "EN", "DE", partials::add).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(List.of("Hal", "lo"), partials);
+        assertEquals("Hallo", response.translations.get(0).text);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void translateBatch_shouldSendAllTextsInOnePrompt() {
+        // Arrange
+        when(chatClient.prompt()).thenReturn(requestSpec);
+        when(requestSpec.options(any())).thenReturn(requestSpec);
+        when(requestSpec.system(any(Consumer.class))).thenReturn(requestSpec);
+        when(requestSpec.user(anyString())).thenReturn(requestSpec);
+        when(requestSpec.call()).thenReturn(callSpec);
+        when(callSpec.content()).thenReturn("{\"0\": \"Hallo\", \"1\": \"Welt\"}");
+
+        // Act
+        List<String> translations = client.translateBatch(List.of("Hello", "World"), "EN", "DE");
+
+        // Assert
+        assertEquals(List.of("Hallo", "Welt"), translations);
+        verify(requestSpec).user("{\"0\":\"Hello\",\"1\":\"World\"}");
+        verify(requestSpec, times(1)).call();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void translateBatch_shouldResendOnlyMissingAndMalformedEntries() {
+        // Arrange
+        when(chatClient.prompt()).thenReturn(requestSpec);
+        when(requestSpec.options(any())).thenReturn(requestSpec);
+        when(requestSpec.system(any(Consumer.class))).thenReturn(requestSpec);
+        when(requestSpec.user(anyString())).thenReturn(requestSpec);
+        when(requestSpec.call()).thenReturn(callSpec);
+        when(callSpec.content()).thenReturn(
+                "{\"0\": \"Eins\", \"1\": 2}",
+                "```json\n{\"1\": \"Zwei\", \"2\": \"Drei\"}\n```");
+
+        // Act
+        List<String> translations = client.translateBatch(List.of("One", "Two", "Three"), "EN", "DE");
+
+        // Assert
+        assertEquals(List.of("Eins", "Zwei", "Drei"), translations);
+        verify(requestSpec).user("{\"1\":\"Two\",\"2\":\"Three\"}");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void translateBatch_shouldReturnNullForEntriesTheModelNeverDelivers() {
+        // Arrange
+        when(chatClient.prompt()).thenReturn(requestSpec);
+        when(requestSpec.options(any())).thenReturn(requestSpec);
+        when(requestSpec.system(any(Consumer.class))).thenReturn(requestSpec);
+        when(requestSpec.user(anyString())).thenReturn(requestSpec);
+        when(requestSpec.call()).thenReturn(callSpec);
+        when(callSpec.content()).thenReturn("{\"0\": \"Hallo\"}", "not json", "{}");
+
+        // Act
+        List<String> translations = client.translateBatch(List.of("Hello", "World"), "EN", "DE");
+
+        // Assert
+        assertEquals(Arrays.asList("Hallo", null), translations);
+        verify(requestSpec, times(OllamaTranslateClient.MAX_BATCH_ATTEMPTS)).call();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void translateBatch_shouldSplitLargeBatches() {
+        // Arrange
+        client.setBatchSize(2);
+        when(chatClient.prompt()).thenReturn(requestSpec);
+        when(requestSpec.options(any())).thenReturn(requestSpec);
+        when(requestSpec.system(any(Consumer.class))).thenReturn(requestSpec);
+        when(requestSpec.user(anyString())).thenReturn(requestSpec);
+        when(requestSpec.call()).thenReturn(callSpec);
+        when(callSpec.content()).thenReturn("{\"0\": \"a\", \"1\": \"b\"}", "{\"0\": \"c\"}");
+
+        // Act
+        List<String> translations = client.translateBatch(List.of("A", "B", "C"), "EN", "DE");
+
+        // Assert
+        assertEquals(List.of("a", "b", "c"), translations);
+        verify(requestSpec).user("{\"0\":\"C\"}");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void translateBatchAsync_shouldResendMissingEntries() throws Exception {
+        // Arrange
+        when(chatClient.prompt()).thenReturn(requestSpec);
+        when(requestSpec.options(any())).thenReturn(requestSpec);
+        when(requestSpec.system(any(Consumer.class))).thenReturn(requestSpec);
+        when(requestSpec.user(anyString())).thenReturn(requestSpec);
+        when(requestSpec.stream()).thenReturn(streamSpec);
+        when(streamSpec.content()).thenReturn(
+                Flux.just("{\"0\": \"Hal", "lo\"}"),
+                Flux.just("{\"1\": \"Welt\"}"));
+
+        // Act
+        List<String> translations = client.translateBatchAsync(List.of("Hello", "World"), "EN", "DE")
+                .get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(List.of("Hallo", "Welt"), translations);
+    }
+
+    @Test
+    void warmUp_shouldRequestOneToken() throws Exception {
+        // Arrange
+        when(chatClient.prompt()).thenReturn(requestSpec);
+        when(requestSpec.options(any())).thenReturn(requestSpec);
+        when(requestSpec.user(anyString())).thenReturn(requestSpec);
+        when(requestSpec.stream()).thenReturn(streamSpec);
+        when(streamSpec.content()).thenReturn(Flux.just("Hi"));
+
+        // Act
+        client.warmUp().get(5, TimeUnit.SECONDS);
+
+        // Assert
+        verify(requestSpec).stream();
+    }
+
+    @Test
+    void warmUp_shouldCompleteNormallyWhenModelIsUnavailable() throws Exception {
+        // Arrange
+        when(chatClient.prompt()).thenReturn(requestSpec);
+        when(requestSpec.options(any())).thenReturn(requestSpec);
+        when(requestSpec.user(anyString())).thenReturn(requestSpec);
+        when(requestSpec.stream()).thenReturn(streamSpec);
+        when(streamSpec.content()).thenReturn(Flux.error(new IllegalStateException("Connection refused")));
+
+        // Act
+        CompletableFuture<Void> warmUp = client.warmUp();
+
+        // Assert
+        assertNull(warmUp.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void stripCodeFence_shouldUnwrapMarkdownBlocks() {
+        assertEquals("{}", OllamaTranslateClient.stripCodeFence("```json\n{}\n```"));
+        assertEquals("{}", OllamaTranslateClient.stripCodeFence("  {} "));
+    }
+
     @Test
     void getSupportedLanguages_shouldReturnNonEmptySet() {
         Set<String> sourceLangs = client.getSupportedSourceLanguages();
@@ -0,0 +1,114 @@
+package de.vkoop.clients;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void reserve_shouldAllowBurstAndThenSpaceOutRequests() {
+        RateLimiter rateLimiter = new RateLimiter(2, clock::get);
+
+        assertEquals(0, rateLimiter.reserve());
+        assertEquals(0, rateLimiter.reserve());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), rateLimiter.reserve());
+        assertEquals(TimeUnit.SECONDS.toNanos(1), rateLimiter.reserve());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), rateLimiter.reserve());
+    }
+
+    @Test
+    void onThrottled_shouldPauseAndHalveTheRate() {
+        RateLimiter rateLimiter = new RateLimiter(8, clock::get);
+
+        rateLimiter.onThrottled(TimeUnit.SECONDS.toNanos(3));
+
+        assertEquals(4, rateLimiter.getPermitsPerSecond());
+        assertEquals(TimeUnit.SECONDS.toNanos(3), rateLimiter.reserve());
+    }
+
+    @Test
+    void onThrottled_shouldHalveTheRateOncePerBackoffWindow() throws Exception {
+        RateLimiter rateLimiter = new RateLimiter(8, clock::get);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> responses = new ArrayList<>();
+        try {
+            // The 429 responses of requests sent at the same rate arrive together
+            for (int i = 0; i < 8; i++) {
+                responses.add(executor.submit(() -> {
+                    start.await();
+                    rateLimiter.onThrottled(TimeUnit.SECONDS.toNanos(2));
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> response : responses) {
+                response.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(4, rateLimiter.getPermitsPerSecond());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        rateLimiter.onThrottled(0);
+        assertEquals(4, rateLimiter.getPermitsPerSecond());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        rateLimiter.onThrottled(0);
+        assertEquals(2, rateLimiter.getPermitsPerSecond());
+    }
+
+    @Test
+    void onSuccess_shouldRecoverTowardsTheMaximumRate() {
+        RateLimiter rateLimiter = new RateLimiter(20, clock::get);
+        rateLimiter.onThrottled(0);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        rateLimiter.onThrottled(0);
+
+        rateLimiter.onSuccess();
+        assertEquals(6, rateLimiter.getPermitsPerSecond());
+
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.onSuccess();
+        }
+        assertEquals(20, rateLimiter.getPermitsPerSecond());
+    }
+
+    @Test
+    void retryAfterMillis_shouldReadSecondsAndHttpDates() {
+        HttpResponse<String> secondsResponse = mock(HttpResponse.class);
+        when(secondsResponse.headers()).thenReturn(
+                HttpHeaders.of(Map.of("Retry-After", List.of("3")), (name, value) -> true));
+        HttpResponse<String> dateResponse = mock(HttpResponse.class);
+        when(dateResponse.headers()).thenReturn(HttpHeaders.of(
+                Map.of("Retry-After", List.of("Wed, 21 Oct 2015 07:28:00 GMT")), (name, value) -> true));
+        HttpResponse<String> missingResponse = mock(HttpResponse.class);
+        when(missingResponse.headers()).thenReturn(HttpHeaders.of(Map.of(), (name, value) -> true));
+
+        assertEquals(3000, DeeplTranslateClient.retryAfterMillis(secondsResponse));
+        // A date in the past means no wait
+        assertEquals(0, DeeplTranslateClient.retryAfterMillis(dateResponse));
+        assertEquals(-1, DeeplTranslateClient.retryAfterMillis(missingResponse));
+    }
+}
@@ -25,6 +25,7 @@ import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -131,6 +132,18 @@ public class BaseCommandTest {
         assertEquals("Unsupported target language: INVALID", exception.getMessage());
     }
 
+    @Test
+    void loadConfigFromFile_shouldPassKeyOptionToClient() {
+        // Arrange
+        testCommand.authKey = AUTH_KEY;
+
+        // Act
+        testCommand.loadConfigFromFile();
+
+        // Assert
+        verify(translateClient).setAuthKey(AUTH_KEY);
+    }
+
     @Test
     void loadConfigFromFile_shouldThrowConfigurationExceptionWhenNoAuthProvided() {
         // Arrange
@@ -179,7 +192,7 @@ public class BaseCommandTest {
     private static class TestCommand extends BaseCommand {
 
         @Override
-        public void run() {
+        protected void execute() {
             // Test implementation
         }
     }
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -31,7 +32,8 @@ import static org.mockito.Mockito.when;
 @MockitoSettings(strictness = Strictness.LENIENT)
 public class JsonCommandErrorIsolationIntegrationTest {
 
-    @Mock
+    // Real default methods let batch calls fall through to the stubbed translate()
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private TranslateClient translateClient;
 
     @TempDir
@@ -0,0 +1,179 @@
+package de.vkoop.commands;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.vkoop.AppStarter;
+import de.vkoop.clients.FakeDeeplServer;
+import de.vkoop.jfr.TranslationRequestEvent;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Load test of {@code translate json} against a {@link FakeDeeplServer}, with the real client stack.
+ * <p>
+ * Request latencies are taken from the {@link TranslationRequestEvent}s of the DeepL client, so they are
+ * the time from sending each request to its final response as the client saw it, including rate limiting
+ * and retries.
+ * <p>
+ * Run with {@code ./gradlew loadTest}. The shape of the run is set by {@code load.*} system
+ * properties, and the {@code translate.*} properties of the CLI other than the ones fixed below can be
+ * overridden the same way to compare strategies, e.g.
+ * {@code ./gradlew loadTest -Pload.keys=20000 -Ptranslate.batch-size=20}.
+ */
+@SpringBootTest(properties = {
+        "translate.client=deepl",
+        // Every key has to reach the endpoint
+        "translate.memory.enabled=false",
+        "translate.cache.enabled=false",
+        "logging.level.de.vkoop=INFO"
+})
+@Tag("load")
+class JsonCommandLoadTest {
+
+    private static final List<String> TARGET_LANGUAGES = List.of(
+            "EN", "FR", "ES", "IT", "NL", "PL", "PT-PT", "SV", "DA", "FI", "CS", "JA", "KO", "TR", "UK", "RO");
+
+    private static final int KEYS = Integer.getInteger("load.keys", 5000);
+    private static final int LANGUAGES = Integer.getInteger("load.languages", 12);
+    private static final double DUPLICATE_RATIO = Double.parseDouble(System.getProperty("load.duplicate-ratio", "0.1"));
+
+    private static FakeDeeplServer server;
+
+    @Autowired
+    private CommandLine.IFactory factory;
+
+    @TempDir
+    Path tempDir;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) throws IOException {
+        server = new FakeDeeplServer(new FakeDeeplServer.Profile(
+                Long.getLong("load.latency.median-ms", 50),
+                Long.getLong("load.latency.p99-ms", 400),
+                Double.parseDouble(System.getProperty("load.error-rate", "0.01")),
+                Integer.getInteger("load.max-requests-per-second", 8),
+                Long.getLong("load.seed", 42)));
+        registry.add("translate.deepl.url", server::getUrl);
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    @Test
+    void translateJson_reportsThroughputAndLatency() throws IOException {
+        Path sourceFile = tempDir.resolve("de.json");
+        new ObjectMapper().writeValue(sourceFile.toFile(), generateLocale(KEYS, DUPLICATE_RATIO));
+        Path configurationFile = tempDir.resolve("load.properties");
+        Files.writeString(configurationFile, "authKey=load-test\n");
+        Path outputFolder = Files.createDirectories(tempDir.resolve("out"));
+        List<String> targetLanguages = TARGET_LANGUAGES.subList(0, Math.min(LANGUAGES, TARGET_LANGUAGES.size()));
+
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        System.gc();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        Path recordingFile = tempDir.resolve("load.jfr");
+        int exitCode;
+        long wallNanos;
+        try (Recording recording = new Recording()) {
+            recording.enable(TranslationRequestEvent.class).withoutThreshold();
+            recording.start();
+            long start = System.nanoTime();
+            exitCode = AppStarter.AppCommand.configure(new CommandLine(AppStarter.AppCommand.class, factory))
+                    .execute("translate", "json",
+                            "--json-file", sourceFile.toString(),
+                            "--output-folder", outputFolder.toString(),
+                            "-c", configurationFile.toString(),
+                            "-s", "DE",
+                            "-t", String.join(",", targetLanguages));
+            wallNanos = System.nanoTime() - start;
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        // Summed per pool, so an upper bound of the heap in use at any one time
+        long peakHeapBytes = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        long[] latencies = RecordingFile.readAllEvents(recordingFile).stream()
+                .mapToLong(event -> event.getDuration().toNanos())
+                .sorted()
+                .toArray();
+        List<Integer> responses = server.getStatusCodes();
+        Map<Integer, Long> statusCodes = responses.stream()
+                .collect(Collectors.groupingBy(status -> status, TreeMap::new, Collectors.counting()));
+        double wallSeconds = wallNanos / 1e9;
+
+        System.out.printf("""
+                        translate json load test
+                          keys x languages  %d x %d (duplicate ratio %.2f)
+                          wall time         %.2f s
+                          throughput        %.0f keys/s
+                          requests          %d, responses %s
+                          latency p50/p99   %d / %d ms
+                          peak heap         %d MB
+                        """,
+                KEYS, targetLanguages.size(), DUPLICATE_RATIO,
+                wallSeconds,
+                KEYS * targetLanguages.size() / wallSeconds,
+                latencies.length, statusCodes,
+                percentileMillis(latencies, 0.50), percentileMillis(latencies, 0.99),
+                peakHeapBytes / (1024 * 1024));
+
+        assertEquals(0, exitCode);
+        try (var outputFiles = Files.list(outputFolder)) {
+            assertEquals(targetLanguages.size(), outputFiles.count());
+        }
+        assertTrue(statusCodes.containsKey(200));
+    }
+
+    private static long percentileMillis(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return TimeUnit.NANOSECONDS.toMillis(sortedNanos[Math.max(0, index)]);
+    }
+
+    /**
+     * Builds a locale file of {@code keys} texts in sections of 50, where the given share repeats an earlier text
+     */
+    private static Map<String, Object> generateLocale(int keys, double duplicateRatio) {
+        Map<String, Object> locale = new LinkedHashMap<>();
+        int distinctTexts = Math.max(1, (int) Math.round(keys * (1 - duplicateRatio)));
+        for (int i = 0; i < keys; i++) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> section = (Map<String, Object>) locale.computeIfAbsent(
+                    "section" + i / 50, key -> new LinkedHashMap<String, Object>());
+            int text = i < distinctTexts ? i : i % distinctTexts;
+            section.put("key" + i, "Text Nummer " + text + " mit ein paar weiteren Wörtern");
+        }
+        return locale;
+    }
+}
@@ -2,7 +2,10 @@ package de.vkoop.commands;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import de.vkoop.JsonTranslator;
+import de.vkoop.exceptions.ConfigurationException;
 import de.vkoop.interfaces.TranslateClient;
+import de.vkoop.report.StatisticsTranslateClient;
+import de.vkoop.report.TranslationStatistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,11 +22,20 @@ import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -141,4 +153,96 @@ public class JsonCommandTest {
         // Assert
         assertTrue(targetFile.toFile().exists());
     }
+
+    @Test
+    void run_shouldTranslateEveryFileOfDirectoryIntoLanguageFolders() throws IOException {
+        // Arrange
+        Path sourceFolder = tempDir.resolve("de");
+        Files.createDirectories(sourceFolder.resolve("admin"));
+        Files.writeString(sourceFolder.resolve("common.json"), "{\"save\":\"Speichern\"}");
+        Files.writeString(sourceFolder.resolve("admin/users.json"), "{\"title\":\"Benutzer\"}");
+        Path outputFolder = tempDir.resolve("out");
+
+        jsonCommand.jsonFile = sourceFolder.toString();
+        jsonCommand.outputFolder = Optional.of(outputFolder.toString());
+        jsonCommand.jsonTranslator = new JsonTranslator(translateClient);
+        when(translateClient.translateBatchAsync(anyList(), eq(SOURCE_LANGUAGE), anyString()))
+            .thenAnswer(invocation -> CompletableFuture.completedFuture(
+                ((List<String>) invocation.getArgument(0))
+                    .stream()
+                    .map(text -> text + "_" + invocation.getArgument(2))
+                    .toList()));
+
+        // Act
+        jsonCommand.run();
+
+        // Assert
+        ObjectMapper objectMapper = new ObjectMapper();
+        assertEquals(Map.of("save", "Speichern_EN"),
+            objectMapper.readValue(outputFolder.resolve("en/common.json").toFile(), Map.class));
+        assertEquals(Map.of("title", "Benutzer_FR"),
+            objectMapper.readValue(outputFolder.resolve("fr/admin/users.json").toFile(), Map.class));
+        verify(translateClient, times(1)).translateBatchAsync(anyList(), eq(SOURCE_LANGUAGE), eq(TARGET_LANGUAGE));
+    }
+
+    @Test
+    void run_shouldApplyOutputPatternToGlobMatches() throws IOException {
+        // Arrange
+        Files.writeString(tempDir.resolve("checkout.json"), "{\"pay\":\"Bezahlen\"}");
+        jsonCommand.jsonFile = tempDir.resolve("check*.json").toString();
+        jsonCommand.outputFolder = Optional.of(tempDir.toString());
+        jsonCommand.outputPattern = "{name}.{lang}.json";
+        jsonCommand.targetLanguages = List.of(TARGET_LANGUAGE);
+        jsonCommand.jsonTranslator = new JsonTranslator(translateClient);
+        when(translateClient.translateBatchAsync(anyList(), eq(SOURCE_LANGUAGE), eq(TARGET_LANGUAGE)))
+            .thenReturn(CompletableFuture.completedFuture(List.of("Pay")));
+
+        // Act
+        jsonCommand.run();
+
+        // Assert
+        assertEquals(Map.of("pay", "Pay"),
+            new ObjectMapper().readValue(tempDir.resolve("checkout.en.json").toFile(), Map.class));
+    }
+
+    @Test
+    void run_shouldWriteReportOfEveryLanguage() throws IOException {
+        // Arrange
+        Path reportFile = tempDir.resolve("reports/run.json");
+        TranslationStatistics statistics = new TranslationStatistics();
+        JsonTranslator jsonTranslator = new JsonTranslator(new StatisticsTranslateClient(translateClient, statistics));
+        jsonTranslator.setStatistics(statistics);
+        jsonCommand.jsonTranslator = jsonTranslator;
+        jsonCommand.setStatistics(statistics);
+        jsonCommand.outputFolder = Optional.of(tempDir.resolve("out").toString());
+        jsonCommand.reportFile = reportFile;
+        when(translateClient.translateBatchAsync(List.of("value"), SOURCE_LANGUAGE, TARGET_LANGUAGE))
+            .thenReturn(CompletableFuture.completedFuture(List.of("value_en")));
+        when(translateClient.translateBatchAsync(List.of("value"), SOURCE_LANGUAGE, "FR"))
+            .thenReturn(CompletableFuture.completedFuture(List.of("")));
+
+        // Act
+        jsonCommand.run();
+
+        // Assert
+        Map<String, Object> report = new ObjectMapper().readValue(reportFile.toFile(), Map.class);
+        assertEquals("success", report.get("status"));
+        assertEquals(2, report.get("leaves"));
+        Map<String, Map<String, Object>> languages = (Map<String, Map<String, Object>>) report.get("languages");
+        assertEquals(List.of(TARGET_LANGUAGE, "FR"), List.copyOf(languages.keySet()));
+        Map<String, Object> english = languages.get(TARGET_LANGUAGE);
+        assertEquals(1, english.get("leaves"));
+        assertEquals(1, english.get("requests"));
+        assertEquals(5, english.get("charactersSent"));
+        assertEquals(0, english.get("emptyResults"));
+        assertEquals((int) tempDir.resolve("out/en.json").toFile().length(), english.get("outputBytes"));
+        assertEquals(1, languages.get("FR").get("emptyResults"));
+    }
+
+    @Test
+    void run_shouldRejectOutputPatternForSingleFile() {
+        jsonCommand.outputPattern = "{lang}/{file}";
+
+        assertThrows(ConfigurationException.class, () -> jsonCommand.run());
+    }
 }
@@ -0,0 +1,74 @@
+package de.vkoop.commands;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonSourceFilesTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void isMultiFile_shouldDetectDirectoriesAndGlobs() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("de.json"), "{}");
+
+        assertTrue(JsonSourceFiles.isMultiFile(tempDir.toString()));
+        assertTrue(JsonSourceFiles.isMultiFile(tempDir.resolve("*.json").toString()));
+        assertFalse(JsonSourceFiles.isMultiFile(file.toString()));
+    }
+
+    @Test
+    void resolve_shouldListJsonFilesOfDirectoryRecursively() throws IOException {
+        createFiles("common.json", "checkout.json", "admin/users.json", "readme.md", "common.lock.json");
+
+        List<JsonSourceFiles.SourceFile> files = JsonSourceFiles.resolve(tempDir.toString());
+
+        assertEquals(List.of("admin/users.json", "checkout.json", "common.json"), relativePaths(files));
+        assertEquals(tempDir.resolve("admin/users.json"), files.get(0).path());
+        assertEquals("users", files.get(0).name());
+    }
+
+    @Test
+    void resolve_shouldMatchGlobBelowItsBaseDirectory() throws IOException {
+        createFiles("de/common.json", "de/checkout.json", "de/nested/deep.json", "en/common.json");
+
+        List<JsonSourceFiles.SourceFile> files = JsonSourceFiles.resolve(tempDir.resolve("de/*.json").toString());
+
+        assertEquals(List.of("checkout.json", "common.json"), relativePaths(files));
+    }
+
+    @Test
+    void resolve_shouldSupportRecursiveGlobs() throws IOException {
+        createFiles("de/common.json", "de/nested/deep.json", "de/nested/notes.txt");
+
+        List<JsonSourceFiles.SourceFile> files = JsonSourceFiles.resolve(tempDir.resolve("de/**.json").toString());
+
+        assertEquals(List.of("common.json", "nested/deep.json"), relativePaths(files));
+    }
+
+    @Test
+    void resolve_shouldReturnNothingForMissingBaseDirectory() throws IOException {
+        assertEquals(List.of(), JsonSourceFiles.resolve(tempDir.resolve("missing/*.json").toString()));
+    }
+
+    private void createFiles(String... relativePaths) throws IOException {
+        for (String relativePath : relativePaths) {
+            Path file = tempDir.resolve(relativePath);
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, "{}");
+        }
+    }
+
+    private static List<String> relativePaths(List<JsonSourceFiles.SourceFile> files) {
+        return files.stream().map(JsonSourceFiles.SourceFile::relativePath).toList();
+    }
+}
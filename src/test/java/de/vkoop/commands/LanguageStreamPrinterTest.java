@@ -0,0 +1,50 @@
+package de.vkoop.commands;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LanguageStreamPrinterTest {
+
+    private static final String NL = System.lineSeparator();
+
+    private final StringWriter out = new StringWriter();
+    private final LanguageStreamPrinter printer = new LanguageStreamPrinter(new PrintWriter(out), List.of("EN", "FR", "IT"));
+
+    @Test
+    void print_shouldShowCurrentLanguageImmediately() {
+        printer.print(0, "Hel");
+
+        assertEquals("EN: Hel", out.toString());
+    }
+
+    @Test
+    void print_shouldBufferLaterLanguagesUntilTheirLine() {
+        printer.print(1, "Bon");
+        printer.print(0, "Hello");
+        assertEquals("EN: Hello", out.toString());
+
+        printer.complete(0);
+        printer.print(1, "jour");
+
+        assertEquals("EN: Hello" + NL + "FR: Bonjour", out.toString());
+    }
+
+    @Test
+    void complete_shouldFlushLanguagesThatFinishedEarly() {
+        printer.print(2, "Ciao");
+        printer.complete(2);
+        printer.print(1, "Salut");
+        printer.complete(1);
+        assertEquals("EN: ", out.toString());
+
+        printer.print(0, "Hi");
+        printer.complete(0);
+
+        assertEquals("EN: Hi" + NL + "FR: Salut" + NL + "IT: Ciao" + NL, out.toString());
+    }
+}
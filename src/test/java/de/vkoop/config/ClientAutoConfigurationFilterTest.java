@@ -0,0 +1,45 @@
+package de.vkoop.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClientAutoConfigurationFilterTest {
+
+    private final ClientAutoConfigurationFilter filter = new ClientAutoConfigurationFilter();
+
+    @Test
+    void postProcessEnvironment_shouldExcludeSpringAiForDeepl() {
+        StandardEnvironment environment = environment(Map.of(
+                "translate.client", "deepl",
+                "spring.autoconfigure.exclude", "com.example.CustomAutoConfiguration"));
+
+        filter.postProcessEnvironment(environment, new SpringApplication());
+
+        List<String> excludes = List.of(environment.getProperty("spring.autoconfigure.exclude", String[].class));
+        assertTrue(excludes.contains("com.example.CustomAutoConfiguration"));
+        assertTrue(excludes.containsAll(ClientAutoConfigurationFilter.OLLAMA_AUTO_CONFIGURATIONS));
+    }
+
+    @Test
+    void postProcessEnvironment_shouldKeepAutoConfigurationForOllama() {
+        StandardEnvironment environment = environment(Map.of("translate.client", "ollama"));
+
+        filter.postProcessEnvironment(environment, new SpringApplication());
+
+        assertNull(environment.getProperty("spring.autoconfigure.exclude"));
+    }
+
+    private static StandardEnvironment environment(Map<String, Object> properties) {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+        return environment;
+    }
+}
@@ -0,0 +1,97 @@
+package de.vkoop.config;
+
+import de.vkoop.exceptions.AuthKeyConflictException;
+import de.vkoop.interfaces.TranslateClient;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SharedAuthKeyTest {
+
+    @Mock
+    private TranslateClient translateClient;
+
+    @Test
+    void use_shouldChangeKeyUntilPinned() {
+        SharedAuthKey sharedAuthKey = new SharedAuthKey(translateClient);
+
+        sharedAuthKey.use("key-a");
+        sharedAuthKey.use("key-b");
+
+        verify(translateClient).setAuthKey("key-a");
+        verify(translateClient).setAuthKey("key-b");
+    }
+
+    @Test
+    void use_shouldRefuseOtherKeyWhenPinned() {
+        SharedAuthKey sharedAuthKey = new SharedAuthKey(translateClient);
+        sharedAuthKey.pin();
+
+        sharedAuthKey.use("key-a");
+        sharedAuthKey.use("key-a");
+
+        assertThrows(AuthKeyConflictException.class, () -> sharedAuthKey.use("key-b"));
+        assertThrows(AuthKeyConflictException.class, () -> sharedAuthKey.use(null));
+        verify(translateClient, times(1)).setAuthKey("key-a");
+        verify(translateClient, never()).setAuthKey("key-b");
+    }
+
+    @Test
+    void use_shouldKeepOneKeyForConcurrentCommandsWithDifferentKeys() throws Exception {
+        SharedAuthKey sharedAuthKey = new SharedAuthKey(translateClient);
+        sharedAuthKey.pin();
+        int commands = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(commands);
+        CountDownLatch start = new CountDownLatch(1);
+        Set<String> acceptedKeys = ConcurrentHashMap.newKeySet();
+        AtomicInteger conflicts = new AtomicInteger();
+
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < commands; i++) {
+                String key = i % 2 == 0 ? "key-a" : "key-b";
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        sharedAuthKey.use(key);
+                        acceptedKeys.add(key);
+                    } catch (AuthKeyConflictException e) {
+                        conflicts.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Every command ran with the key of the first one, the commands with the other key were refused
+        assertEquals(1, acceptedKeys.size());
+        assertEquals(commands / 2, conflicts.get());
+        verify(translateClient, times(1)).setAuthKey(anyString());
+    }
+}
@@ -0,0 +1,80 @@
+package de.vkoop.config;
+
+import de.vkoop.clients.ConcurrencyLimitingTranslateClient;
+import de.vkoop.clients.DeeplTranslateClient;
+import de.vkoop.clients.OllamaTranslateClient;
+import de.vkoop.interfaces.TranslateClient;
+import de.vkoop.metrics.MetricsTranslateClient;
+import de.vkoop.report.TranslationStatistics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.ObjectProvider;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TranslateClientConfigurationTest {
+
+    private static final int DEEPL_MAX_IN_FLIGHT = 8;
+    private static final int OLLAMA_MAX_IN_FLIGHT = 2;
+
+    @Mock
+    private ObjectProvider<DeeplTranslateClient> deeplProvider;
+
+    @Mock
+    private ObjectProvider<OllamaTranslateClient> ollamaProvider;
+
+    @Mock
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @Mock
+    private DeeplTranslateClient deeplClient;
+
+    @Mock
+    private OllamaTranslateClient ollamaClient;
+
+    @Test
+    void translateClient_shouldLimitDeeplToDeeplInFlight() {
+        when(deeplProvider.getIfAvailable()).thenReturn(deeplClient);
+
+        assertEquals(DEEPL_MAX_IN_FLIGHT, limiter(translateClient("deepl")).getMaxInFlight());
+    }
+
+    @Test
+    void translateClient_shouldLimitDeeplToDeeplInFlightWithMetrics() {
+        when(deeplProvider.getIfAvailable()).thenReturn(deeplClient);
+        when(meterRegistryProvider.getIfAvailable()).thenReturn(new SimpleMeterRegistry());
+
+        ConcurrencyLimitingTranslateClient limiter = limiter(translateClient("deepl"));
+
+        assertInstanceOf(MetricsTranslateClient.class, limiter.getDelegate());
+        assertEquals(DEEPL_MAX_IN_FLIGHT, limiter.getMaxInFlight());
+    }
+
+    @Test
+    void translateClient_shouldLimitOllamaToOllamaInFlight() {
+        when(ollamaProvider.getIfAvailable()).thenReturn(ollamaClient);
+
+        assertEquals(OLLAMA_MAX_IN_FLIGHT, limiter(translateClient("ollama")).getMaxInFlight());
+    }
+
+    private TranslateClient translateClient(String clientName) {
+        // Without memory and cache, so the limiter is the outermost client
+        return new TranslateClientConfiguration().translateClient(
+                deeplProvider, ollamaProvider, meterRegistryProvider, new TranslationStatistics(),
+                clientName, "", false, "", 0, false, 0, DEEPL_MAX_IN_FLIGHT, OLLAMA_MAX_IN_FLIGHT);
+    }
+
+    private static ConcurrencyLimitingTranslateClient limiter(TranslateClient client) {
+        return assertInstanceOf(ConcurrencyLimitingTranslateClient.class, client);
+    }
+}
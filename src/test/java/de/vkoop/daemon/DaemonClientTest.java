@@ -0,0 +1,96 @@
+package de.vkoop.daemon;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DaemonClientTest {
+
+    private static final Path WORKING_DIRECTORY = Path.of("/work");
+
+    private DaemonServer server;
+
+    @AfterEach
+    void stopServer() {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    void run_shouldReturnResultOfTheDaemon() throws IOException {
+        // Arrange
+        server = new DaemonServer(0, 1, args -> new DaemonResponse(3, String.join(",", args), "warning"));
+        server.start();
+
+        // Act
+        Optional<DaemonResponse> response = new DaemonClient(server.getEndpoint()).run(List.of("translate", "text"));
+
+        // Assert
+        assertEquals(Optional.of(new DaemonResponse(3, "translate,text", "warning")), response);
+    }
+
+    @Test
+    void run_shouldBeEmptyForWrongToken() throws IOException {
+        // Arrange
+        server = new DaemonServer(0, 1, args -> new DaemonResponse(0, "", ""));
+        server.start();
+        DaemonEndpoint wrongToken = new DaemonEndpoint(server.getEndpoint().port(), "guessed");
+
+        // Act & Assert
+        assertTrue(new DaemonClient(wrongToken).run(List.of("translate")).isEmpty());
+    }
+
+    @Test
+    void run_shouldBeEmptyWhenNoDaemonListens() throws IOException {
+        int freePort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            freePort = socket.getLocalPort();
+        }
+
+        assertTrue(new DaemonClient(new DaemonEndpoint(freePort, "token")).run(List.of("translate")).isEmpty());
+    }
+
+    @Test
+    void resolvePaths_shouldMakePathOptionsAbsolute() {
+        List<String> args = DaemonClient.resolvePaths(new String[]{
+                "translate", "json", "--json-file", "de.json", "-c", "/etc/transcli.properties",
+                "--lockfile=locks/de.lock.json", "--output-folder", "out", "-t", "EN,FR"
+        }, WORKING_DIRECTORY);
+
+        assertEquals(List.of(
+                "translate", "json", "--json-file", "/work/de.json", "-c", "/etc/transcli.properties",
+                "--lockfile=/work/locks/de.lock.json", "--output-folder", "/work/out", "-t", "EN,FR"
+        ), args);
+    }
+
+    @Test
+    void resolvePaths_shouldPinOutputOfJsonCommandToWorkingDirectory() {
+        List<String> args = DaemonClient.resolvePaths(new String[]{"translate", "json", "--json-file", "de.json"},
+                WORKING_DIRECTORY);
+
+        assertEquals(List.of("translate", "json", "--json-file", "/work/de.json", "--output-folder", "/work"), args);
+    }
+
+    @Test
+    void resolvePaths_shouldLeaveTextCommandUnchanged() {
+        String[] args = {"translate", "text", "--text", "Hallo", "-s", "DE", "-t", "EN"};
+
+        assertEquals(List.of(args), DaemonClient.resolvePaths(args, WORKING_DIRECTORY));
+    }
+
+    @Test
+    void resolvePaths_shouldNotTakeOptionValueForJsonCommand() {
+        String[] args = {"translate", "text", "--text", "json", "-s", "DE", "-t", "EN"};
+
+        assertEquals(List.of(args), DaemonClient.resolvePaths(args, WORKING_DIRECTORY));
+    }
+}
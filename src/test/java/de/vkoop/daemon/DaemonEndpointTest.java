@@ -0,0 +1,50 @@
+package de.vkoop.daemon;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DaemonEndpointTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void write_shouldBeReadBack() throws IOException {
+        Path file = tempDir.resolve("transcli/daemon.properties");
+        DaemonEndpoint endpoint = new DaemonEndpoint(4711, "secret");
+
+        endpoint.write(file);
+
+        assertEquals(Optional.of(endpoint), DaemonEndpoint.read(file));
+    }
+
+    @Test
+    void read_shouldBeEmptyForMissingOrBrokenFile() throws IOException {
+        Path file = tempDir.resolve("daemon.properties");
+        assertTrue(DaemonEndpoint.read(file).isEmpty());
+
+        Files.writeString(file, "port=not-a-number");
+        assertTrue(DaemonEndpoint.read(file).isEmpty());
+    }
+
+    @Test
+    void deleteIfOwned_shouldKeepFileOfAnotherDaemon() throws IOException {
+        Path file = tempDir.resolve("daemon.properties");
+        new DaemonEndpoint(2, "newer").write(file);
+
+        new DaemonEndpoint(1, "older").deleteIfOwned(file);
+        assertTrue(Files.exists(file));
+
+        new DaemonEndpoint(2, "newer").deleteIfOwned(file);
+        assertFalse(Files.exists(file));
+    }
+}
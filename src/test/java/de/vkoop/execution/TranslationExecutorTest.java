@@ -0,0 +1,101 @@
+package de.vkoop.execution;
+
+import de.vkoop.exceptions.TranslationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TranslationExecutorTest {
+
+    private TranslationExecutor translationExecutor;
+
+    @BeforeEach
+    void setUp() {
+        translationExecutor = new TranslationExecutor(4, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        translationExecutor.shutdown();
+    }
+
+    @Test
+    void invokeAll_shouldReturnResultsInTaskOrder() {
+        List<Callable<String>> tasks = List.of(
+                () -> {
+                    Thread.sleep(50);
+                    return "slow";
+                },
+                () -> "fast"
+        );
+
+        assertEquals(List.of("slow", "fast"), translationExecutor.invokeAll(tasks));
+    }
+
+    @Test
+    void invokeAll_shouldRunTasksConcurrently() {
+        CountDownLatch allStarted = new CountDownLatch(3);
+        Callable<Boolean> task = () -> {
+            allStarted.countDown();
+            return allStarted.await(5, TimeUnit.SECONDS);
+        };
+
+        assertEquals(List.of(true, true, true), translationExecutor.invokeAll(List.of(task, task, task)));
+    }
+
+    @Test
+    void invokeAll_shouldCancelOutstandingTasksWhenOneFails() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        RuntimeException failure = new IllegalStateException("quota exceeded");
+        List<Callable<Void>> tasks = List.of(
+                () -> {
+                    try {
+                        Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                    return null;
+                },
+                () -> {
+                    throw failure;
+                }
+        );
+
+        RuntimeException thrown = assertThrows(RuntimeException.class, () -> translationExecutor.invokeAll(tasks));
+
+        assertSame(failure, thrown);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "Outstanding task should have been interrupted");
+    }
+
+    @Test
+    void invokeAll_shouldWrapCheckedExceptions() {
+        List<Callable<Void>> tasks = List.of(() -> {
+            throw new IOException("disk full");
+        });
+
+        TranslationException thrown = assertThrows(TranslationException.class, () -> translationExecutor.invokeAll(tasks));
+
+        assertTrue(thrown.getCause() instanceof IOException);
+    }
+
+    @Test
+    void virtualThreads_shouldFallBackToPoolOnOlderRuntimes() {
+        TranslationExecutor virtualThreadExecutor = new TranslationExecutor(2, true);
+        try {
+            assertEquals(List.of("done"), virtualThreadExecutor.invokeAll(List.<Callable<String>>of(() -> "done")));
+        } finally {
+            virtualThreadExecutor.shutdown();
+        }
+    }
+}
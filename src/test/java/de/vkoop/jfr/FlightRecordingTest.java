@@ -0,0 +1,67 @@
+package de.vkoop.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FlightRecordingTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void close_shouldWriteTranslationAndPipelineEvents() throws IOException {
+        Path file = tempDir.resolve("run.jfr");
+
+        try (FlightRecording ignored = FlightRecording.start(file)) {
+            TranslationRequestEvent request = TranslationRequestEvent.start("deepl", "DE", "EN", List.of("Hallo", "Welt"));
+            request.response(429);
+            request.response(200);
+            request.finish();
+
+            PipelineStageEvent stage = PipelineStageEvent.start(PipelineStageEvent.WRITE, "en.json", "EN");
+            stage.finish(2, 128);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        RecordedEvent request = single(events, "de.vkoop.TranslationRequest");
+        assertEquals("DE", request.getString("sourceLanguage"));
+        assertEquals("EN", request.getString("targetLanguage"));
+        assertEquals(2, request.getInt("texts"));
+        assertEquals(9, request.getInt("textLength"));
+        assertEquals(200, request.getInt("httpStatus"));
+        assertEquals(2, request.getInt("attempts"));
+
+        RecordedEvent stage = single(events, "de.vkoop.PipelineStage");
+        assertEquals(PipelineStageEvent.WRITE, stage.getString("stage"));
+        assertEquals(128, stage.getLong("size"));
+        // The profile settings also record the JVM, e.g. garbage collections
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().startsWith("jdk.")));
+    }
+
+    @Test
+    void start_shouldRecordNothingWithoutFile() {
+        try (FlightRecording ignored = FlightRecording.start(null)) {
+            assertFalse(new TranslationRequestEvent().isEnabled());
+        }
+        assertTrue(Files.notExists(tempDir.resolve("run.jfr")));
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+        assertEquals(1, matching.size(), name);
+        return matching.get(0);
+    }
+}
@@ -0,0 +1,130 @@
+package de.vkoop.metrics;
+
+import de.vkoop.data.Response;
+import de.vkoop.exceptions.TranslationException;
+import de.vkoop.interfaces.TranslateClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class MetricsTranslateClientTest {
+
+    private static final String SOURCE_LANGUAGE = "DE";
+    private static final String TARGET_LANGUAGE = "EN";
+
+    @Mock
+    private TranslateClient delegate;
+
+    private SimpleMeterRegistry registry;
+
+    private MetricsTranslateClient client;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        client = new MetricsTranslateClient(delegate, registry, "deepl");
+    }
+
+    @Test
+    void translate_shouldTimeCallByOutcome() {
+        when(delegate.translate("Hallo", SOURCE_LANGUAGE, TARGET_LANGUAGE)).thenReturn(Response.of("Hello", SOURCE_LANGUAGE));
+        when(delegate.translate("Welt", SOURCE_LANGUAGE, TARGET_LANGUAGE)).thenReturn(null);
+
+        client.translate("Hallo", SOURCE_LANGUAGE, TARGET_LANGUAGE);
+        client.translate("Welt", SOURCE_LANGUAGE, TARGET_LANGUAGE);
+
+        assertEquals(1, calls("single", MetricsTranslateClient.SUCCESS));
+        assertEquals(1, calls("single", MetricsTranslateClient.EMPTY));
+        assertEquals(9, characters());
+    }
+
+    @Test
+    void translateBatch_shouldRecordErrorAndRethrow() {
+        when(delegate.translateBatch(List.of("Hallo"), SOURCE_LANGUAGE, TARGET_LANGUAGE))
+                .thenThrow(new TranslationException("DeepL API returned 500 after 5 retries"));
+
+        assertThrows(TranslationException.class,
+                () -> client.translateBatch(List.of("Hallo"), SOURCE_LANGUAGE, TARGET_LANGUAGE));
+
+        assertEquals(1, calls("batch", MetricsTranslateClient.ERROR));
+        assertEquals(0, client.getInFlight());
+    }
+
+    @Test
+    void translateBatchAsync_shouldCountCallInFlightUntilItCompletes() {
+        CompletableFuture<List<String>> pending = new CompletableFuture<>();
+        when(delegate.translateBatchAsync(List.of("Hallo", "Welt"), SOURCE_LANGUAGE, TARGET_LANGUAGE)).thenReturn(pending);
+
+        CompletableFuture<List<String>> result =
+                client.translateBatchAsync(List.of("Hallo", "Welt"), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+
+        assertEquals(1, client.getInFlight());
+        assertEquals(0, calls("batch", MetricsTranslateClient.SUCCESS));
+
+        pending.complete(Arrays.asList("Hello", null));
+
+        assertEquals(Arrays.asList("Hello", null), result.join());
+        assertEquals(0, client.getInFlight());
+        assertEquals(1, calls("batch", MetricsTranslateClient.EMPTY));
+        assertEquals(9, characters());
+    }
+
+    @Test
+    void translateBatchAsync_shouldKeepPeakOfCallsInFlight() {
+        CompletableFuture<List<String>> first = new CompletableFuture<>();
+        CompletableFuture<List<String>> second = new CompletableFuture<>();
+        when(delegate.translateBatchAsync(List.of("Hallo"), SOURCE_LANGUAGE, TARGET_LANGUAGE)).thenReturn(first);
+        when(delegate.translateBatchAsync(List.of("Welt"), SOURCE_LANGUAGE, TARGET_LANGUAGE)).thenReturn(second);
+        when(delegate.translateBatch(List.of("Tschüss"), SOURCE_LANGUAGE, TARGET_LANGUAGE)).thenReturn(List.of("Bye"));
+
+        client.translateBatchAsync(List.of("Hallo"), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+        client.translateBatchAsync(List.of("Welt"), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+        first.complete(List.of("Hello"));
+        second.complete(List.of("World"));
+        client.translateBatch(List.of("Tschüss"), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+
+        // Still reported after all calls finished, when the metrics are written
+        assertEquals(0, client.getInFlight());
+        assertEquals(2, peakInFlight());
+    }
+
+    @Test
+    void translateBatchAsync_shouldRecordFailedFuture() {
+        when(delegate.translateBatchAsync(List.of("Hallo"), SOURCE_LANGUAGE, TARGET_LANGUAGE))
+                .thenReturn(CompletableFuture.failedFuture(new TranslationException("boom")));
+
+        CompletableFuture<List<String>> result =
+                client.translateBatchAsync(List.of("Hallo"), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+
+        assertThrows(Exception.class, result::join);
+        assertEquals(1, calls("batch", MetricsTranslateClient.ERROR));
+        assertEquals(0, client.getInFlight());
+    }
+
+    private long calls(String call, String outcome) {
+        var timer = registry.find(MetricsTranslateClient.CALLS)
+                .tags("client", "deepl", "target_language", TARGET_LANGUAGE, "call", call, "outcome", outcome)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private double characters() {
+        return registry.get(MetricsTranslateClient.CHARACTERS).tags("target_language", TARGET_LANGUAGE).counter().count();
+    }
+
+    private double peakInFlight() {
+        return registry.get(MetricsTranslateClient.PEAK_IN_FLIGHT).gauge().value();
+    }
+}
@@ -0,0 +1,37 @@
+package de.vkoop.metrics;
+
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PrometheusFileExporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void export_shouldReplaceFileWithPrometheusText() throws IOException {
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        registry.counter(MetricsTranslateClient.CHARACTERS, "client", "deepl", "target_language", "EN").increment(42);
+        Path file = tempDir.resolve("textfile/transcli.prom");
+
+        new PrometheusFileExporter(registry, file).export();
+        new PrometheusFileExporter(registry, file).export();
+
+        String metrics = Files.readString(file);
+        assertTrue(metrics.contains("transcli_translate_characters_total{client=\"deepl\",target_language=\"EN\"} 42"),
+                metrics);
+        try (var files = Files.list(file.getParent())) {
+            // No temporary file is left for the collector to pick up
+            assertEquals(1, files.count());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package de.vkoop.report;
+
+import de.vkoop.data.Response;
+import de.vkoop.exceptions.TranslationException;
+import de.vkoop.interfaces.TranslateClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class StatisticsTranslateClientTest {
+
+    private static final String SOURCE_LANGUAGE = "DE";
+    private static final String TARGET_LANGUAGE = "EN";
+
+    @Mock
+    private TranslateClient delegate;
+
+    private TranslationStatistics statistics;
+
+    private StatisticsTranslateClient client;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new TranslationStatistics();
+        client = new StatisticsTranslateClient(delegate, statistics);
+    }
+
+    @Test
+    void translate_shouldCountRequestsCharactersAndEmptyResults() {
+        when(delegate.translate("Hallo", SOURCE_LANGUAGE, TARGET_LANGUAGE)).thenReturn(Response.of("Hello", SOURCE_LANGUAGE));
+        when(delegate.translate("Welt", SOURCE_LANGUAGE, TARGET_LANGUAGE)).thenReturn(null);
+
+        client.translate("Hallo", SOURCE_LANGUAGE, TARGET_LANGUAGE);
+        client.translate("Welt", SOURCE_LANGUAGE, TARGET_LANGUAGE);
+
+        TranslationStatistics.Snapshot snapshot = statistics.snapshot(TARGET_LANGUAGE);
+        assertEquals(2, snapshot.requests());
+        assertEquals(2, snapshot.textsSent());
+        assertEquals(9, snapshot.characters());
+        assertEquals(1, snapshot.emptyResults());
+    }
+
+    @Test
+    void translateBatchAsync_shouldCountBlankTranslationsAsEmpty() {
+        List<String> texts = List.of("Hallo", "Welt", "Tschüss");
+        when(delegate.translateBatchAsync(texts, SOURCE_LANGUAGE, TARGET_LANGUAGE))
+                .thenReturn(CompletableFuture.completedFuture(Arrays.asList("Hello", "", null)));
+
+        client.translateBatchAsync(texts, SOURCE_LANGUAGE, TARGET_LANGUAGE).join();
+
+        TranslationStatistics.Snapshot snapshot = statistics.snapshot(TARGET_LANGUAGE);
+        assertEquals(1, snapshot.requests());
+        assertEquals(3, snapshot.textsSent());
+        assertEquals(16, snapshot.characters());
+        assertEquals(2, snapshot.emptyResults());
+    }
+
+    @Test
+    void translateBatch_shouldCountAllTextsOfFailedRequestAsEmpty() {
+        when(delegate.translateBatch(List.of("Hallo", "Welt"), SOURCE_LANGUAGE, TARGET_LANGUAGE))
+                .thenThrow(new TranslationException("DeepL API returned 500 after 5 retries"));
+
+        assertThrows(TranslationException.class,
+                () -> client.translateBatch(List.of("Hallo", "Welt"), SOURCE_LANGUAGE, TARGET_LANGUAGE));
+
+        assertEquals(2, statistics.snapshot(TARGET_LANGUAGE).emptyResults());
+    }
+
+    @Test
+    void translateBatchAsync_shouldTrackPeakOfRequestsInFlight() {
+        CompletableFuture<List<String>> first = new CompletableFuture<>();
+        CompletableFuture<List<String>> second = new CompletableFuture<>();
+        when(delegate.translateBatchAsync(List.of("Hallo"), SOURCE_LANGUAGE, TARGET_LANGUAGE)).thenReturn(first);
+        when(delegate.translateBatchAsync(List.of("Welt"), SOURCE_LANGUAGE, TARGET_LANGUAGE)).thenReturn(second);
+
+        client.translateBatchAsync(List.of("Hallo"), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+        client.translateBatchAsync(List.of("Welt"), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+        first.complete(List.of("Hello"));
+        second.complete(List.of("World"));
+
+        assertEquals(2, statistics.peakInFlight());
+        statistics.resetPeakInFlight();
+        assertEquals(0, statistics.peakInFlight());
+    }
+
+    @Test
+    void snapshot_shouldCountTextsAnsweredBeforeTheBackendAsCacheHits() {
+        when(delegate.translateBatch(List.of("Hallo"), SOURCE_LANGUAGE, TARGET_LANGUAGE)).thenReturn(List.of("Hello"));
+        TranslationStatistics.Snapshot before = statistics.snapshot(TARGET_LANGUAGE);
+
+        statistics.texts(TARGET_LANGUAGE, 3);
+        client.translateBatch(List.of("Hallo"), SOURCE_LANGUAGE, TARGET_LANGUAGE);
+
+        assertEquals(2, statistics.snapshot(TARGET_LANGUAGE).minus(before).cacheHits());
+    }
+}